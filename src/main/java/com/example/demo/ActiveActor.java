@@ -3,14 +3,22 @@ package com.example.demo;
 import javafx.scene.image.*;
 
 /**
- * Abstract class representing an active actor in the game
+ * Abstract class representing an active actor in the game.
+ * The actor's state lives in its {@link ActorModel}; the node itself is a view of that
+ * model and is only updated by {@link #syncView(double)}.
  */
 public abstract class ActiveActor extends ImageView {
 	
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	private static double stepScale = 1;
+
+	private final ActorModel model;
+	private CollisionMask collisionMask;
+
 	/**
-	 * Constructs a new Activator
+	 * Constructs a new Activator. The image is shown at its display height, from the sprite
+	 * atlas when the game was built with one, so the node draws it without scaling.
 	 *
 	 * @param imageName    the name of the image file
 	 * @param imageHeight  the height of the image
@@ -18,14 +26,32 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos  the initial y position
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		var resource = getClass().getResource(IMAGE_LOCATION + imageName);
-		if (resource != null) {
-			this.setImage(new Image(resource.toExternalForm()));
+		if (SpriteAtlas.get().show(this, IMAGE_LOCATION + imageName, 0, imageHeight)) {
+			this.collisionMask = CollisionMask.forRegion(imageName, getImage(), getViewport(), imageHeight);
 		}
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+		this.model = new ActorModel(initialXPos, initialYPos, getLayoutBounds().getWidth(), getLayoutBounds().getHeight());
+	}
+
+	/**
+	 * Returns the collision mask built from the actor's image at its display height
+	 *
+	 * @return  the collision mask, or null if the image could not be read
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * Returns the simulated state of the actor
+	 *
+	 * @return  the actor's model
+	 */
+	public ActorModel getModel() {
+		return model;
 	}
 
 	/**
@@ -34,21 +60,88 @@ public abstract class ActiveActor extends ImageView {
 	public abstract void updatePosition();
 
 	/**
-	 * Moves the actor horizontally
+	 * Records the current position of the actor as its previous position, before it is updated
+	 */
+	public void savePreviousPosition() {
+		model.savePreviousPosition();
+	}
+
+	/**
+	 * Brings the node in line with the model, placing it between the previous and the current
+	 * simulated position. This is the only place the game writes the actor's node position.
 	 *
-	 * @param horizontalMove   the distance to move horizontally
+	 * @param alpha  the interpolation factor, 0 for the previous and 1 for the current position
+	 */
+	public void syncView(double alpha) {
+		this.setTranslateX(model.getInterpolatedX(alpha) - getLayoutX());
+		this.setTranslateY(model.getInterpolatedY(alpha) - getLayoutY());
+	}
+
+	/**
+	 * Stops any sound effect played by the actor, so that a disposed level falls silent.
+	 * Actors without sound effects do nothing.
+	 */
+	public void stopSounds() {
+	}
+
+	/**
+	 * Moves the actor horizontally, scaled by the length of the current simulation step
+	 *
+	 * @param horizontalMove   the distance to move horizontally in a reference step
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		model.moveBy(horizontalMove * stepScale, 0);
 	}
 
 	/**
-	 * Moves the actor vertically
+	 * Moves the actor vertically, scaled by the length of the current simulation step
 	 *
-	 * @param verticalMove  the distance to move vertically
+	 * @param verticalMove  the distance to move vertically in a reference step
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		model.moveBy(0, verticalMove * stepScale);
+	}
+
+	/**
+	 * Sets the length of the simulation step about to run, relative to the reference step of
+	 * {@link GameConstants#MILLISECOND_DELAY} milliseconds that velocities and per-step
+	 * probabilities are tuned for. Called by the level at the start of every step, on the
+	 * FX thread, so that the simulation rate changes smoothness but not game speed.
+	 *
+	 * @param scale the step length divided by the reference step length
+	 */
+	static void setStepScale(double scale) {
+		stepScale = scale;
+	}
+
+	/**
+	 * Returns the length of the current simulation step relative to the reference step.
+	 *
+	 * @return the step scale, 1 at the reference simulation rate
+	 */
+	protected static double getStepScale() {
+		return stepScale;
+	}
+
+	/**
+	 * Converts the probability of an event in a reference step to its probability in the
+	 * current step, so that the event happens as often per second at any simulation rate.
+	 *
+	 * @param probability the probability in a reference step, between 0 and 1
+	 * @return the probability in the current step
+	 */
+	protected static double perStep(double probability) {
+		return stepScale == 1 ? probability : 1 - Math.pow(1 - probability, stepScale);
+	}
+
+	/**
+	 * Converts a number of reference steps to the number of current steps lasting as long.
+	 *
+	 * @param referenceSteps the number of reference steps
+	 * @return the number of current steps, at least one
+	 */
+	protected static int toSteps(int referenceSteps) {
+		return (int) Math.max(1, Math.round(referenceSteps / stepScale));
 	}
 
 }
@@ -5,8 +5,6 @@ package com.example.demo;
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
-	private boolean isDestroyed;
-
 	/**
 	 * Constructs a new ActiveActorDestructible
 	 * @param imageName     the name of the image file
@@ -17,7 +15,6 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
-		isDestroyed = false;
 	}
 
 	/**
@@ -31,6 +28,17 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	public abstract void updateActor();
 
+	/**
+	 * Publishes the bounding box of the actor at its simulated position, and its displacement
+	 * since the previous position was saved, into a bounds cache
+	 *
+	 * @param bounds  the cache to publish into
+	 * @return  the index of the actor's box in the cache
+	 */
+	public int publishBounds(ActorBounds bounds) {
+		return getModel().publishBounds(bounds);
+	}
+
 	/**
 	 * Applies damage to the actor
 	 */
@@ -42,7 +50,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	@Override
 	public void destroy() {
-		isDestroyed = true;
+		getModel().setDestroyed(true);
 	}
 
 	/**
@@ -51,7 +59,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 * @return  true if the actor is destroyed, false otherwise
 	 */
 	public boolean isDestroyed() {
-		return isDestroyed;
+		return getModel().isDestroyed();
 	}
 	
 }
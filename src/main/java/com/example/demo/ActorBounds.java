@@ -0,0 +1,314 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * The {@code ActorBounds} class caches the axis-aligned bounding boxes of a list of actors
+ * in primitive arrays (structure of arrays). Boxes are published once per tick, after the
+ * actors have been updated, and every collision check of that tick reads from the cache
+ * instead of calling {@link Node#getBoundsInParent()} per pair.
+ * <p>
+ * A box is stored at the index returned by {@link #add}, which matches the actor's index
+ * in its list when the whole list is published in order. Each box also records how far the
+ * actor moved during the tick, so that fast actors can be tested with a swept box.
+ */
+public class ActorBounds {
+
+	private static final int INITIAL_CAPACITY = 32;
+
+	private double[] minX;
+	private double[] minY;
+	private double[] maxX;
+	private double[] maxY;
+	private double[] displacementX;
+	private double[] displacementY;
+	private int size;
+
+	private double sweepEntryTime;
+	private double sweepExitTime;
+
+	/**
+	 * Constructs a new, empty {@code ActorBounds} cache.
+	 */
+	public ActorBounds() {
+		this.minX = new double[INITIAL_CAPACITY];
+		this.minY = new double[INITIAL_CAPACITY];
+		this.maxX = new double[INITIAL_CAPACITY];
+		this.maxY = new double[INITIAL_CAPACITY];
+		this.displacementX = new double[INITIAL_CAPACITY];
+		this.displacementY = new double[INITIAL_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * Removes all cached boxes.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Publishes the bounding box of a stationary node in its parent's coordinate space.
+	 * The box is computed from the node's layout bounds, which JavaFX caches until the
+	 * image or fit size changes, offset by its layout and translate coordinates.
+	 *
+	 * @param node the node to publish
+	 * @return the index of the cached box
+	 */
+	public int add(Node node) {
+		Bounds local = node.getLayoutBounds();
+		double x = node.getLayoutX() + node.getTranslateX();
+		double y = node.getLayoutY() + node.getTranslateY();
+		return add(x + local.getMinX(), y + local.getMinY(), x + local.getMaxX(), y + local.getMaxY());
+	}
+
+	/**
+	 * Publishes a stationary bounding box.
+	 *
+	 * @param minX the minimum x coordinate of the box
+	 * @param minY the minimum y coordinate of the box
+	 * @param maxX the maximum x coordinate of the box
+	 * @param maxY the maximum y coordinate of the box
+	 * @return the index of the cached box
+	 */
+	public int add(double minX, double minY, double maxX, double maxY) {
+		return add(minX, minY, maxX, maxY, 0, 0);
+	}
+
+	/**
+	 * Publishes a bounding box at its end-of-tick position, together with the distance it
+	 * moved during the tick.
+	 *
+	 * @param minX          the minimum x coordinate of the box
+	 * @param minY          the minimum y coordinate of the box
+	 * @param maxX          the maximum x coordinate of the box
+	 * @param maxY          the maximum y coordinate of the box
+	 * @param displacementX the horizontal distance moved during the tick
+	 * @param displacementY the vertical distance moved during the tick
+	 * @return the index of the cached box
+	 */
+	public int add(double minX, double minY, double maxX, double maxY, double displacementX, double displacementY) {
+		if (size == this.minX.length) {
+			grow();
+		}
+		this.minX[size] = minX;
+		this.minY[size] = minY;
+		this.maxX[size] = maxX;
+		this.maxY[size] = maxY;
+		this.displacementX[size] = displacementX;
+		this.displacementY[size] = displacementY;
+		return size++;
+	}
+
+	/**
+	 * Checks whether a cached box intersects a box cached in another {@code ActorBounds}.
+	 * Touching edges count as an intersection, as with {@link Bounds#intersects(Bounds)}.
+	 *
+	 * @param index      the index of the box in this cache
+	 * @param other      the cache holding the other box
+	 * @param otherIndex the index of the other box
+	 * @return true if the boxes intersect, false otherwise
+	 */
+	public boolean intersects(int index, ActorBounds other, int otherIndex) {
+		return minX[index] <= other.maxX[otherIndex] && maxX[index] >= other.minX[otherIndex]
+				&& minY[index] <= other.maxY[otherIndex] && maxY[index] >= other.minY[otherIndex];
+	}
+
+	/**
+	 * Checks whether two moving boxes touched at any time during the tick. Both boxes are
+	 * moved linearly from their start-of-tick to their end-of-tick positions, and the test is
+	 * done on their relative motion, so a fast projectile cannot tunnel through a thin target.
+	 * When the boxes touch, the fraction of the tick at which contact begins and ends is
+	 * available from {@link #getSweepEntryTime()} and {@link #getSweepExitTime()}.
+	 *
+	 * @param index      the index of the box in this cache
+	 * @param other      the cache holding the other box
+	 * @param otherIndex the index of the other box
+	 * @return true if the boxes touched during the tick, false otherwise
+	 */
+	public boolean sweptIntersects(int index, ActorBounds other, int otherIndex) {
+		double velocityX = displacementX[index] - other.displacementX[otherIndex];
+		double velocityY = displacementY[index] - other.displacementY[otherIndex];
+		double startMinX = minX[index] - displacementX[index];
+		double startMaxX = maxX[index] - displacementX[index];
+		double startMinY = minY[index] - displacementY[index];
+		double startMaxY = maxY[index] - displacementY[index];
+		double otherMinX = other.minX[otherIndex] - other.displacementX[otherIndex];
+		double otherMaxX = other.maxX[otherIndex] - other.displacementX[otherIndex];
+		double otherMinY = other.minY[otherIndex] - other.displacementY[otherIndex];
+		double otherMaxY = other.maxY[otherIndex] - other.displacementY[otherIndex];
+
+		sweepEntryTime = 0;
+		sweepExitTime = 1;
+		return clipAxis(startMinX, startMaxX, otherMinX, otherMaxX, velocityX)
+				&& clipAxis(startMinY, startMaxY, otherMinY, otherMaxY, velocityY)
+				&& sweepEntryTime <= sweepExitTime;
+	}
+
+	/**
+	 * Narrows the sweep interval to the times at which two intervals overlap on one axis.
+	 *
+	 * @param minA     the start-of-tick minimum of the moving interval
+	 * @param maxA     the start-of-tick maximum of the moving interval
+	 * @param minB     the start-of-tick minimum of the other interval
+	 * @param maxB     the start-of-tick maximum of the other interval
+	 * @param velocity the relative distance moved during the tick along the axis
+	 * @return false if the intervals never overlap during the tick, true otherwise
+	 */
+	private boolean clipAxis(double minA, double maxA, double minB, double maxB, double velocity) {
+		if (velocity == 0) {
+			return minA <= maxB && maxA >= minB;
+		}
+		double entry = velocity > 0 ? (minB - maxA) / velocity : (maxB - minA) / velocity;
+		double exit = velocity > 0 ? (maxB - minA) / velocity : (minB - maxA) / velocity;
+		sweepEntryTime = Math.max(sweepEntryTime, entry);
+		sweepExitTime = Math.min(sweepExitTime, exit);
+		return sweepEntryTime <= sweepExitTime;
+	}
+
+	/**
+	 * Returns the fraction of the tick at which the boxes of the last successful
+	 * {@link #sweptIntersects} call started touching.
+	 *
+	 * @return the entry time, between 0 and 1
+	 */
+	public double getSweepEntryTime() {
+		return sweepEntryTime;
+	}
+
+	/**
+	 * Returns the fraction of the tick at which the boxes of the last successful
+	 * {@link #sweptIntersects} call stopped touching.
+	 *
+	 * @return the exit time, between 0 and 1
+	 */
+	public double getSweepExitTime() {
+		return sweepExitTime;
+	}
+
+	/**
+	 * Returns the number of cached boxes.
+	 *
+	 * @return the number of cached boxes
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the minimum x coordinate of a cached box.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum x coordinate
+	 */
+	public double getMinX(int index) {
+		return minX[index];
+	}
+
+	/**
+	 * Returns the minimum y coordinate of a cached box.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum y coordinate
+	 */
+	public double getMinY(int index) {
+		return minY[index];
+	}
+
+	/**
+	 * Returns the maximum x coordinate of a cached box.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum x coordinate
+	 */
+	public double getMaxX(int index) {
+		return maxX[index];
+	}
+
+	/**
+	 * Returns the maximum y coordinate of a cached box.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum y coordinate
+	 */
+	public double getMaxY(int index) {
+		return maxY[index];
+	}
+
+	/**
+	 * Returns the horizontal distance a cached box moved during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the horizontal displacement
+	 */
+	public double getDisplacementX(int index) {
+		return displacementX[index];
+	}
+
+	/**
+	 * Returns the vertical distance a cached box moved during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the vertical displacement
+	 */
+	public double getDisplacementY(int index) {
+		return displacementY[index];
+	}
+
+	/**
+	 * Returns the minimum x coordinate of the area a cached box swept during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum x coordinate of the swept area
+	 */
+	public double getSweptMinX(int index) {
+		return minX[index] - Math.max(0, displacementX[index]);
+	}
+
+	/**
+	 * Returns the minimum y coordinate of the area a cached box swept during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum y coordinate of the swept area
+	 */
+	public double getSweptMinY(int index) {
+		return minY[index] - Math.max(0, displacementY[index]);
+	}
+
+	/**
+	 * Returns the maximum x coordinate of the area a cached box swept during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum x coordinate of the swept area
+	 */
+	public double getSweptMaxX(int index) {
+		return maxX[index] - Math.min(0, displacementX[index]);
+	}
+
+	/**
+	 * Returns the maximum y coordinate of the area a cached box swept during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum y coordinate of the swept area
+	 */
+	public double getSweptMaxY(int index) {
+		return maxY[index] - Math.min(0, displacementY[index]);
+	}
+
+	/**
+	 * Doubles the capacity of the cache.
+	 */
+	private void grow() {
+		int newCapacity = minX.length * 2;
+		minX = Arrays.copyOf(minX, newCapacity);
+		minY = Arrays.copyOf(minY, newCapacity);
+		maxX = Arrays.copyOf(maxX, newCapacity);
+		maxY = Arrays.copyOf(maxY, newCapacity);
+		displacementX = Arrays.copyOf(displacementX, newCapacity);
+		displacementY = Arrays.copyOf(displacementY, newCapacity);
+	}
+
+}
@@ -0,0 +1,223 @@
+package com.example.demo;
+
+/**
+ * The {@code ActorModel} class holds the simulated state of an actor: its position, size,
+ * health and destroyed flag. It is plain Java and never touches the JavaFX scene graph, so
+ * a simulation step only works on models and can run many times per rendered frame, as
+ * {@link LevelParent#simulate(int)} does. The actor's node is brought in line with its model
+ * once per rendered frame. Actors are still nodes and levels still build a scene, so a level
+ * needs the JavaFX toolkit and must be simulated on the FX thread.
+ */
+public class ActorModel {
+
+	private double x;
+	private double y;
+	private double previousX;
+	private double previousY;
+	private double width;
+	private double height;
+	private int health;
+	private boolean destroyed;
+
+	/**
+	 * Constructs a new {@code ActorModel} at the specified position.
+	 *
+	 * @param x      the x coordinate of the actor's top-left corner
+	 * @param y      the y coordinate of the actor's top-left corner
+	 * @param width  the width of the actor
+	 * @param height the height of the actor
+	 */
+	public ActorModel(double x, double y, double width, double height) {
+		this.x = x;
+		this.y = y;
+		this.previousX = x;
+		this.previousY = y;
+		this.width = width;
+		this.height = height;
+		this.health = 0;
+		this.destroyed = false;
+	}
+
+	/**
+	 * Moves the actor by the given distances.
+	 *
+	 * @param deltaX the horizontal distance to move
+	 * @param deltaY the vertical distance to move
+	 */
+	public void moveBy(double deltaX, double deltaY) {
+		x += deltaX;
+		y += deltaY;
+	}
+
+	/**
+	 * Records the current position as the previous position, before the actor is updated.
+	 */
+	public void savePreviousPosition() {
+		previousX = x;
+		previousY = y;
+	}
+
+	/**
+	 * Places the actor at a new position without it counting as movement, so the actor is
+	 * neither swept nor interpolated from its old position.
+	 *
+	 * @param x the new x coordinate
+	 * @param y the new y coordinate
+	 */
+	public void teleport(double x, double y) {
+		this.x = x;
+		this.y = y;
+		this.previousX = x;
+		this.previousY = y;
+	}
+
+	/**
+	 * Publishes the actor's box and its displacement since the previous position was saved.
+	 *
+	 * @param bounds the cache to publish into
+	 * @return the index of the actor's box in the cache
+	 */
+	public int publishBounds(ActorBounds bounds) {
+		return bounds.add(x, y, x + width, y + height, getDisplacementX(), getDisplacementY());
+	}
+
+	/**
+	 * Returns the x coordinate between the previous and the current position.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous and 1 for the current position
+	 * @return the interpolated x coordinate
+	 */
+	public double getInterpolatedX(double alpha) {
+		return previousX + (x - previousX) * alpha;
+	}
+
+	/**
+	 * Returns the y coordinate between the previous and the current position.
+	 *
+	 * @param alpha the interpolation factor, 0 for the previous and 1 for the current position
+	 * @return the interpolated y coordinate
+	 */
+	public double getInterpolatedY(double alpha) {
+		return previousY + (y - previousY) * alpha;
+	}
+
+	/**
+	 * Returns the horizontal distance moved since the previous position was saved.
+	 *
+	 * @return the horizontal displacement
+	 */
+	public double getDisplacementX() {
+		return x - previousX;
+	}
+
+	/**
+	 * Returns the vertical distance moved since the previous position was saved.
+	 *
+	 * @return the vertical displacement
+	 */
+	public double getDisplacementY() {
+		return y - previousY;
+	}
+
+	/**
+	 * Returns the x coordinate of the actor's top-left corner.
+	 *
+	 * @return the x coordinate
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Sets the x coordinate of the actor's top-left corner.
+	 *
+	 * @param x the x coordinate
+	 */
+	public void setX(double x) {
+		this.x = x;
+	}
+
+	/**
+	 * Returns the y coordinate of the actor's top-left corner.
+	 *
+	 * @return the y coordinate
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Sets the y coordinate of the actor's top-left corner.
+	 *
+	 * @param y the y coordinate
+	 */
+	public void setY(double y) {
+		this.y = y;
+	}
+
+	/**
+	 * Returns the width of the actor.
+	 *
+	 * @return the width
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the actor.
+	 *
+	 * @return the height
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Sets the size of the actor.
+	 *
+	 * @param width  the width
+	 * @param height the height
+	 */
+	public void setSize(double width, double height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Returns the health of the actor.
+	 *
+	 * @return the health
+	 */
+	public int getHealth() {
+		return health;
+	}
+
+	/**
+	 * Sets the health of the actor.
+	 *
+	 * @param health the health
+	 */
+	public void setHealth(int health) {
+		this.health = health;
+	}
+
+	/**
+	 * Checks whether the actor is destroyed.
+	 *
+	 * @return true if the actor is destroyed, false otherwise
+	 */
+	public boolean isDestroyed() {
+		return destroyed;
+	}
+
+	/**
+	 * Sets whether the actor is destroyed.
+	 *
+	 * @param destroyed true to mark the actor as destroyed
+	 */
+	public void setDestroyed(boolean destroyed) {
+		this.destroyed = destroyed;
+	}
+
+}
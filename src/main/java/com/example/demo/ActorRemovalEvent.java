@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the removal of destroyed actors from one actor list of a level.
+ */
+@Name("com.example.demo.ActorRemoval")
+@Label("Actor Removal")
+@Category({"Sky Battle", "Actors"})
+@Description("Destroyed actors removed from the level")
+@StackTrace(false)
+public class ActorRemovalEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Actor Type")
+	@Description("Type of the first destroyed actor")
+	String actorType;
+
+	@Label("Removed")
+	@Description("Number of actors removed")
+	int removed;
+
+	@Label("Remaining")
+	@Description("Number of actors left in the list")
+	int remaining;
+
+}
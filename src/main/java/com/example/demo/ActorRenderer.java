@@ -0,0 +1,68 @@
+package com.example.demo;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * The {@code ActorRenderer} interface is the rendering backend of a level. The level's logic
+ * only works on actor models and sprites; once per frame it syncs every sprite to its model and
+ * hands it to the renderer, which decides how the sprite reaches the screen. The backend is
+ * chosen when the game is started, through {@link GameSettings#getRendererType()}, so both can
+ * be profiled side by side on the same levels.
+ */
+public interface ActorRenderer {
+
+	/**
+	 * The available rendering backends.
+	 */
+	enum Type {
+
+		/**
+		 * Every actor is a node of the scene graph.
+		 */
+		NODE,
+
+		/**
+		 * Every actor is drawn onto a single canvas, in one batch per frame.
+		 */
+		CANVAS
+	}
+
+	/**
+	 * Starts a new frame. Called before any sprite of the frame is rendered.
+	 */
+	void beginFrame();
+
+	/**
+	 * Renders a sprite whose position has already been synced to its model for this frame.
+	 * The sprite is shown at its layout plus translate position, at the size of its layout bounds.
+	 *
+	 * @param sprite the sprite to render
+	 */
+	void render(ImageView sprite);
+
+	/**
+	 * Takes a sprite off the screen. Called by the simulation when an actor is removed; the
+	 * renderer may defer the work to the next frame.
+	 *
+	 * @param sprite the sprite to remove
+	 */
+	void remove(ImageView sprite);
+
+	/**
+	 * Ends the current frame. Called after every sprite of the frame was rendered.
+	 */
+	void endFrame();
+
+	/**
+	 * Returns the number of sprites rendered during the last completed frame.
+	 *
+	 * @return the number of rendered sprites
+	 */
+	int getRenderedCount();
+
+	/**
+	 * Releases the renderer once its level is disposed.
+	 */
+	void dispose();
+
+}
@@ -0,0 +1,190 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The {@code AssetManifest} class lists every image and sound shipped with the game, so that
+ * they can be loaded before they are first needed. Resource folders cannot be listed reliably
+ * once packaged in a jar, hence the explicit list; {@code AssetManifestTest} checks it against
+ * the resource folders.
+ * <p>
+ * Sprites are decoded at the size they are displayed at, so the manifest also lists those
+ * sizes, taken from the classes showing the sprites. Images without a listed size are loaded
+ * at their natural size.
+ */
+public final class AssetManifest {
+
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	private static final List<String> IMAGES = List.of(
+			"background1.jpg",
+			"background2.jpg",
+			"background3.jpg",
+			"bomb.png",
+			"bossplane.png",
+			"enemyFire.png",
+			"enemyplane.png",
+			"fireball.png",
+			"gameover.png",
+			"gametutorial.png",
+			"heart.png",
+			"howtoplay.png",
+			"mainmenu.jpg",
+			"mute.png",
+			"shield.png",
+			"skybattlefavicon.png",
+			"tutorialfavicon.png",
+			"userfire.png",
+			"userplane.png",
+			"youwin.png");
+
+	private static final List<ImageVariant> ATLAS_SPRITES = List.of(
+			new ImageVariant(IMAGE_LOCATION + UserPlane.IMAGE_NAME, 0, UserPlane.IMAGE_HEIGHT),
+			new ImageVariant(IMAGE_LOCATION + EnemyPlane.IMAGE_NAME, 0, EnemyPlane.IMAGE_HEIGHT),
+			new ImageVariant(IMAGE_LOCATION + Boss.IMAGE_NAME, 0, Boss.IMAGE_HEIGHT),
+			new ImageVariant(IMAGE_LOCATION + UserProjectile.IMAGE_NAME, 0, UserProjectile.IMAGE_HEIGHT),
+			new ImageVariant(IMAGE_LOCATION + EnemyProjectile.IMAGE_NAME, 0, EnemyProjectile.IMAGE_HEIGHT),
+			new ImageVariant(IMAGE_LOCATION + BossProjectile.IMAGE_NAME, 0, BossProjectile.IMAGE_HEIGHT),
+			new ImageVariant(Bomb.IMAGE_NAME, 0, Bomb.BOMB_SIZE),
+			new ImageVariant(ShieldImage.IMAGE_NAME, ShieldImage.SHIELD_SIZE, ShieldImage.SHIELD_SIZE),
+			new ImageVariant(HeartDisplay.HEART_IMAGE_NAME, 0, HeartDisplay.HEART_HEIGHT));
+
+	private static final List<ImageVariant> SCREEN_IMAGES = List.of(
+			new ImageVariant(WinImage.IMAGE_NAME, WinImage.WIDTH, WinImage.HEIGHT),
+			new ImageVariant(GameOverImage.IMAGE_NAME, GameConstants.LOSS_SCREEN_WIDTH, GameConstants.LOSS_SCREEN_HEIGHT));
+
+	/**
+	 * An image decoded at a given size.
+	 */
+	public static final class ImageVariant {
+
+		private final String path;
+		private final double width;
+		private final double height;
+
+		/**
+		 * Constructs an image variant.
+		 *
+		 * @param path   the absolute resource path of the image
+		 * @param width  the width to decode the image to, or 0
+		 * @param height the height to decode the image to, or 0
+		 */
+		ImageVariant(String path, double width, double height) {
+			this.path = path;
+			this.width = width;
+			this.height = height;
+		}
+
+		/**
+		 * Returns the key identifying the image at this size, the same key {@link ImageCache}
+		 * and {@link SpriteAtlas} use.
+		 *
+		 * @return the key of the variant
+		 */
+		public String getKey() {
+			return keyOf(path, width, height);
+		}
+
+		/**
+		 * Returns the key identifying an image at a given size.
+		 *
+		 * @param path   the absolute resource path of the image
+		 * @param width  the width the image is decoded to, or 0
+		 * @param height the height the image is decoded to, or 0
+		 * @return the key of the image at that size
+		 */
+		public static String keyOf(String path, double width, double height) {
+			return path + "@" + width + "x" + height;
+		}
+
+		/**
+		 * Returns the resource path of the image.
+		 *
+		 * @return the absolute resource path
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns the width the image is decoded to.
+		 *
+		 * @return the width, or 0 if unconstrained
+		 */
+		public double getWidth() {
+			return width;
+		}
+
+		/**
+		 * Returns the height the image is decoded to.
+		 *
+		 * @return the height, or 0 if unconstrained
+		 */
+		public double getHeight() {
+			return height;
+		}
+	}
+
+	private AssetManifest() {
+	}
+
+	/**
+	 * Returns the resource paths of every image of the game.
+	 *
+	 * @return the absolute resource paths of the images
+	 */
+	public static List<String> getImagePaths() {
+		return IMAGES.stream().map(name -> IMAGE_LOCATION + name).toList();
+	}
+
+	/**
+	 * Returns every image of the game at the sizes it is displayed at. Each image appears
+	 * once per display size, or once at its natural size if it has no listed size.
+	 *
+	 * @return the image variants to load
+	 */
+	public static List<ImageVariant> getImageVariants() {
+		List<ImageVariant> variants = new ArrayList<>();
+		for (String path : getImagePaths()) {
+			List<ImageVariant> sized = Stream.concat(ATLAS_SPRITES.stream(), SCREEN_IMAGES.stream())
+					.filter(variant -> variant.getPath().equals(path))
+					.toList();
+			if (sized.isEmpty()) {
+				variants.add(new ImageVariant(path, 0, 0));
+			} else {
+				variants.addAll(sized);
+			}
+		}
+		return variants;
+	}
+
+	/**
+	 * Returns the gameplay sprites, at their display sizes, that are packed into the sprite atlas.
+	 *
+	 * @return the sprites of the atlas
+	 */
+	public static List<ImageVariant> getAtlasSprites() {
+		return ATLAS_SPRITES;
+	}
+
+	/**
+	 * Returns every sound cue of the game.
+	 *
+	 * @return the sound cues
+	 */
+	public static List<SoundCue> getSoundCues() {
+		return List.of(SoundCue.values());
+	}
+
+	/**
+	 * Returns the number of assets listed in the manifest.
+	 *
+	 * @return the number of image variants and sounds
+	 */
+	public static int size() {
+		return getImageVariants().size() + SoundCue.values().length;
+	}
+
+}
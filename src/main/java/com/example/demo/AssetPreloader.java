@@ -0,0 +1,143 @@
+package com.example.demo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import javafx.application.Platform;
+
+/**
+ * The {@code AssetPreloader} class decodes every asset of the {@link AssetManifest} on a
+ * background thread and stores it in {@link ImageCache} and {@link SoundEffects}. It is started
+ * while the main menu is shown, so that building a level only picks up assets that are already
+ * decoded instead of reading and decoding them on the JavaFX application thread.
+ * <p>
+ * The preload runs once per process. Asking for it again returns the same future, and a level
+ * built before it completes still works: the caches load any missing asset on demand.
+ */
+public class AssetPreloader {
+
+	/**
+	 * Receives the progress of a preload.
+	 */
+	public interface ProgressListener {
+
+		/**
+		 * Called each time an asset has been loaded.
+		 *
+		 * @param loaded the number of assets loaded so far
+		 * @param total  the number of assets to load
+		 */
+		void onProgress(int loaded, int total);
+	}
+
+	private static final GameLog LOG = GameLog.get(AssetPreloader.class);
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "asset-preloader");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final AtomicInteger LOADED = new AtomicInteger();
+	private static CompletableFuture<Void> preload;
+
+	private AssetPreloader() {
+	}
+
+	/**
+	 * Starts preloading every asset of the manifest, unless it has already been started.
+	 * The listener is called on the JavaFX application thread.
+	 *
+	 * @param listener the listener notified of the progress, or null
+	 * @return a future completing once every asset has been loaded
+	 */
+	public static synchronized CompletableFuture<Void> start(ProgressListener listener) {
+		if (preload == null) {
+			preload = CompletableFuture.runAsync(() -> loadAll(listener), EXECUTOR);
+		} else if (listener != null) {
+			int loaded = LOADED.get();
+			Platform.runLater(() -> listener.onProgress(loaded, AssetManifest.size()));
+		}
+		return preload;
+	}
+
+	/**
+	 * Loads every asset of the manifest, reporting progress after each one. Sprites held by the
+	 * sprite atlas are served from the atlas and need no loading of their own. An asset that
+	 * fails to load is logged and skipped; it will be loaded again on demand.
+	 *
+	 * @param listener the listener notified of the progress, or null
+	 */
+	private static void loadAll(ProgressListener listener) {
+		int total = AssetManifest.size();
+		SpriteAtlas atlas = SpriteAtlas.get();
+		for (AssetManifest.ImageVariant image : AssetManifest.getImageVariants()) {
+			if (atlas.getRegion(image.getPath(), image.getWidth(), image.getHeight()) == null) {
+				load(() -> ImageCache.get(image.getPath(), image.getWidth(), image.getHeight()), image.getPath());
+			}
+			report(listener, total);
+		}
+		for (SoundCue cue : AssetManifest.getSoundCues()) {
+			load(() -> AudioMixer.preload(cue), cue.getPath());
+			report(listener, total);
+		}
+	}
+
+	/**
+	 * Loads a single asset.
+	 *
+	 * @param loader the action loading the asset
+	 * @param path   the resource path of the asset, for logging
+	 */
+	private static void load(Runnable loader, String path) {
+		try {
+			loader.run();
+		} catch (RuntimeException e) {
+			LOG.log(Level.WARNING, "Failed to preload asset: " + path, e);
+		}
+	}
+
+	/**
+	 * Counts a loaded asset and notifies the listener on the JavaFX application thread.
+	 *
+	 * @param listener the listener notified of the progress, or null
+	 * @param total    the number of assets to load
+	 */
+	private static void report(ProgressListener listener, int total) {
+		int loaded = LOADED.incrementAndGet();
+		if (listener != null) {
+			Platform.runLater(() -> listener.onProgress(loaded, total));
+		}
+	}
+
+	/**
+	 * Returns the background thread assets are loaded on. Other loads use threads of their own,
+	 * so that they never queue behind the asset preload.
+	 *
+	 * @return the asset loading executor
+	 */
+	static Executor getExecutor() {
+		return EXECUTOR;
+	}
+
+	/**
+	 * Returns the number of assets loaded so far.
+	 *
+	 * @return the number of loaded assets
+	 */
+	public static int getLoadedCount() {
+		return LOADED.get();
+	}
+
+	/**
+	 * Checks whether the preload has completed.
+	 *
+	 * @return true if every asset has been loaded, false otherwise
+	 */
+	public static synchronized boolean isDone() {
+		return preload != null && preload.isDone();
+	}
+
+}
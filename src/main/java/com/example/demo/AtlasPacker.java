@@ -0,0 +1,201 @@
+package com.example.demo;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The {@code AtlasPacker} class is a build-time tool that packs the gameplay sprites of the
+ * {@link AssetManifest}, each scaled to its display size, into a single sprite atlas image and
+ * writes an index of where each sprite lies in it. {@link SpriteAtlas} reads both at runtime.
+ * <p>
+ * It runs in the {@code process-classes} phase of the {@code atlas} Maven profile
+ * ({@code mvn -Patlas package}), reading the sprites from and writing the atlas to the build
+ * output directory. It only uses AWT imaging, so it needs no JavaFX toolkit.
+ * <p>
+ * Sprites are placed on shelves, tallest first, with a padding around each one so that
+ * filtering never samples a neighbouring sprite. Each index line holds a sprite's key followed
+ * by the x, y, width and height of its region, separated by tabs.
+ */
+public final class AtlasPacker {
+
+	static final String ATLAS_DIRECTORY = "com/example/demo/atlas";
+	static final String ATLAS_IMAGE = "sprites.png";
+	static final String ATLAS_INDEX = "sprites.index";
+	static final int ATLAS_WIDTH = 1024;
+	static final int PADDING = 2;
+
+	private AtlasPacker() {
+	}
+
+	/**
+	 * Packs the sprite atlas into a build output directory.
+	 *
+	 * @param args the build output directory, {@code target/classes} if omitted
+	 * @throws IOException if a sprite cannot be read or the atlas cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		Path outputDirectory = Path.of(args.length > 0 ? args[0] : "target/classes").resolve(ATLAS_DIRECTORY);
+		Map<String, Rectangle> regions = pack(AssetManifest.getAtlasSprites(), outputDirectory);
+		System.out.println("Packed " + regions.size() + " sprites into " + outputDirectory.resolve(ATLAS_IMAGE));
+	}
+
+	/**
+	 * Packs sprites into an atlas image and index written to a directory.
+	 *
+	 * @param sprites         the sprites to pack, at their display sizes
+	 * @param outputDirectory the directory to write the atlas image and index to
+	 * @return the region of each sprite, by key
+	 * @throws IOException if a sprite cannot be read or the atlas cannot be written
+	 */
+	static Map<String, Rectangle> pack(List<AssetManifest.ImageVariant> sprites, Path outputDirectory) throws IOException {
+		Map<String, BufferedImage> images = new LinkedHashMap<>();
+		for (AssetManifest.ImageVariant sprite : sprites) {
+			images.put(sprite.getKey(), scale(read(sprite.getPath()), sprite.getWidth(), sprite.getHeight()));
+		}
+
+		List<String> keys = new ArrayList<>(images.keySet());
+		keys.sort(Comparator.comparingInt((String key) -> images.get(key).getHeight()).reversed());
+		Map<String, Rectangle> regions = new LinkedHashMap<>();
+		int x = PADDING;
+		int y = PADDING;
+		int shelfHeight = 0;
+		for (String key : keys) {
+			BufferedImage image = images.get(key);
+			if (image.getWidth() + 2 * PADDING > ATLAS_WIDTH) {
+				throw new IOException("Sprite is wider than the atlas: " + key);
+			}
+			if (x + image.getWidth() + PADDING > ATLAS_WIDTH) {
+				x = PADDING;
+				y += shelfHeight + PADDING;
+				shelfHeight = 0;
+			}
+			regions.put(key, new Rectangle(x, y, image.getWidth(), image.getHeight()));
+			x += image.getWidth() + PADDING;
+			shelfHeight = Math.max(shelfHeight, image.getHeight());
+		}
+
+		BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, nextPowerOfTwo(y + shelfHeight + PADDING), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		for (Map.Entry<String, Rectangle> region : regions.entrySet()) {
+			graphics.drawImage(images.get(region.getKey()), region.getValue().x, region.getValue().y, null);
+		}
+		graphics.dispose();
+
+		Files.createDirectories(outputDirectory);
+		ImageIO.write(atlas, "png", outputDirectory.resolve(ATLAS_IMAGE).toFile());
+		writeIndex(regions, outputDirectory.resolve(ATLAS_INDEX));
+		return regions;
+	}
+
+	/**
+	 * Reads a sprite from the classpath.
+	 *
+	 * @param path the absolute resource path of the sprite
+	 * @return the sprite image
+	 * @throws IOException if the sprite cannot be found or read
+	 */
+	private static BufferedImage read(String path) throws IOException {
+		try (InputStream stream = AtlasPacker.class.getResourceAsStream(path)) {
+			if (stream == null) {
+				throw new IOException("Sprite not found: " + path);
+			}
+			BufferedImage image = ImageIO.read(stream);
+			if (image == null) {
+				throw new IOException("Sprite is not a readable image: " + path);
+			}
+			return image;
+		}
+	}
+
+	/**
+	 * Scales a sprite to fit the requested size with its ratio preserved, like the requested
+	 * size of a JavaFX {@code Image}. The sprite is halved repeatedly before the last step, so
+	 * large reductions stay smooth.
+	 *
+	 * @param source the sprite at its natural size
+	 * @param width  the width to fit, or 0
+	 * @param height the height to fit, or 0
+	 * @return the scaled sprite
+	 */
+	static BufferedImage scale(BufferedImage source, double width, double height) {
+		double scaleX = width > 0 ? width / source.getWidth() : Double.MAX_VALUE;
+		double scaleY = height > 0 ? height / source.getHeight() : Double.MAX_VALUE;
+		double factor = Math.min(scaleX, scaleY);
+		if (factor == Double.MAX_VALUE) {
+			factor = 1;
+		}
+		int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * factor));
+		int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * factor));
+
+		BufferedImage current = source;
+		while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+			current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+		}
+		return resize(current, targetWidth, targetHeight);
+	}
+
+	/**
+	 * Resizes an image with bilinear filtering.
+	 *
+	 * @param source the image to resize
+	 * @param width  the new width
+	 * @param height the new height
+	 * @return the resized image
+	 */
+	private static BufferedImage resize(BufferedImage source, int width, int height) {
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = resized.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		graphics.drawImage(source, 0, 0, width, height, null);
+		graphics.dispose();
+		return resized;
+	}
+
+	/**
+	 * Writes the atlas index, one sprite per line.
+	 *
+	 * @param regions the region of each sprite, by key
+	 * @param file    the index file
+	 * @throws IOException if the index cannot be written
+	 */
+	private static void writeIndex(Map<String, Rectangle> regions, Path file) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (Map.Entry<String, Rectangle> region : regions.entrySet()) {
+				Rectangle bounds = region.getValue();
+				writer.write(region.getKey() + "\t" + bounds.x + "\t" + bounds.y + "\t" + bounds.width + "\t" + bounds.height);
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Returns the smallest power of two not below a value.
+	 *
+	 * @param value the value
+	 * @return the power of two
+	 */
+	private static int nextPowerOfTwo(int value) {
+		int power = 1;
+		while (power < value) {
+			power <<= 1;
+		}
+		return power;
+	}
+
+}
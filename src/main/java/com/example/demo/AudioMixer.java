@@ -0,0 +1,321 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import javafx.scene.media.AudioClip;
+
+/**
+ * The {@code AudioMixer} class sits in front of {@link SoundEffects} and decides which play
+ * requests actually reach the media pipeline, so that the cost of audio stays bounded however
+ * many actors are on screen. A request for a {@link SoundCue} is dropped when:
+ * <ul>
+ *     <li>the same cue was already played during the current simulation tick (coalescing),</li>
+ *     <li>the cue was played less than its minimum retrigger interval ago,</li>
+ *     <li>all voices of the cue are busy, or</li>
+ *     <li>all voices of the mixer are busy and no lower-priority cue can be stolen from.</li>
+ * </ul>
+ * Since an {@link AudioClip} cannot stop a single one of its instances, stealing stops every
+ * instance of the victim cue and frees all of its voices.
+ */
+public class AudioMixer {
+
+	/**
+	 * The destination of the mixer's play and stop decisions.
+	 */
+	public interface Output {
+
+		/**
+		 * Plays a cue.
+		 *
+		 * @param cue the cue to play
+		 */
+		void play(SoundCue cue);
+
+		/**
+		 * Stops every playing instance of a cue.
+		 *
+		 * @param cue the cue to stop
+		 */
+		void stop(SoundCue cue);
+	}
+
+	private static final int MAX_TOTAL_VOICES = 12;
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	private static final AudioMixer SHARED = new AudioMixer(new ClipOutput(), System::nanoTime);
+
+	private final Output output;
+	private final LongSupplier clock;
+	private final long[][] voiceEnds;
+	private final long[] lastPlayNanos;
+	private final long[] lastPlayTick;
+	private long currentTick;
+
+	private long playedCount;
+	private long coalescedCount;
+	private long throttledCount;
+	private long voiceLimitedCount;
+	private long stolenCount;
+
+	/**
+	 * Constructs a new {@code AudioMixer}.
+	 *
+	 * @param output the output receiving the plays and stops that pass the mixer
+	 * @param clock  the time source, in nanoseconds
+	 */
+	public AudioMixer(Output output, LongSupplier clock) {
+		this.output = output;
+		this.clock = clock;
+		SoundCue[] cues = SoundCue.values();
+		this.voiceEnds = new long[cues.length][];
+		for (SoundCue cue : cues) {
+			voiceEnds[cue.ordinal()] = new long[cue.getMaxVoices()];
+		}
+		this.lastPlayNanos = new long[cues.length];
+		this.lastPlayTick = new long[cues.length];
+		Arrays.fill(lastPlayNanos, Long.MIN_VALUE);
+		Arrays.fill(lastPlayTick, -1);
+		this.currentTick = 0;
+	}
+
+	/**
+	 * Returns the mixer shared by the whole game, which plays cues through {@link SoundEffects}.
+	 *
+	 * @return the shared mixer
+	 */
+	public static AudioMixer get() {
+		return SHARED;
+	}
+
+	/**
+	 * Loads the clips of the given cues ahead of time, so that the actors using them do no
+	 * audio I/O when they are created or first play them.
+	 *
+	 * @param cues the cues to load
+	 */
+	public static void preload(SoundCue... cues) {
+		for (SoundCue cue : cues) {
+			SoundEffects.loadSound(cue.getPath(), SoundCue.class);
+		}
+	}
+
+	/**
+	 * Starts a new simulation tick. Identical cues requested within one tick are played once.
+	 */
+	public synchronized void beginTick() {
+		currentTick++;
+	}
+
+	/**
+	 * Requests a cue to be played, subject to the mixer's limits.
+	 *
+	 * @param cue the cue to play
+	 * @return true if the cue was played, false if it was dropped
+	 */
+	public synchronized boolean play(SoundCue cue) {
+		int index = cue.ordinal();
+		if (lastPlayTick[index] == currentTick) {
+			coalescedCount++;
+			return false;
+		}
+		long now = clock.getAsLong();
+		if (lastPlayNanos[index] != Long.MIN_VALUE
+				&& now - lastPlayNanos[index] < cue.getMinRetriggerMillis() * NANOS_PER_MILLI) {
+			throttledCount++;
+			return false;
+		}
+		int voice = freeVoice(index, now);
+		if (voice < 0) {
+			voiceLimitedCount++;
+			return false;
+		}
+		if (activeVoices(now) >= MAX_TOTAL_VOICES && !stealVoice(cue, now)) {
+			voiceLimitedCount++;
+			return false;
+		}
+		voiceEnds[index][voice] = now + cue.getVoiceMillis() * NANOS_PER_MILLI;
+		lastPlayNanos[index] = now;
+		lastPlayTick[index] = currentTick;
+		playedCount++;
+		output.play(cue);
+		return true;
+	}
+
+	/**
+	 * Stops every playing instance of a cue and frees its voices.
+	 *
+	 * @param cue the cue to stop
+	 */
+	public synchronized void stop(SoundCue cue) {
+		Arrays.fill(voiceEnds[cue.ordinal()], 0);
+		output.stop(cue);
+	}
+
+	/**
+	 * Returns the index of a free voice of a cue.
+	 *
+	 * @param index the ordinal of the cue
+	 * @param now   the current time, in nanoseconds
+	 * @return the index of a free voice, or -1 if all voices of the cue are busy
+	 */
+	private int freeVoice(int index, long now) {
+		long[] ends = voiceEnds[index];
+		for (int voice = 0; voice < ends.length; voice++) {
+			if (ends[voice] <= now) {
+				return voice;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the busy voices of all cues.
+	 *
+	 * @param now the current time, in nanoseconds
+	 * @return the number of busy voices
+	 */
+	private int activeVoices(long now) {
+		int count = 0;
+		for (long[] ends : voiceEnds) {
+			for (long end : ends) {
+				if (end > now) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Stops the lowest-priority busy cue if its priority is below the requesting cue's.
+	 *
+	 * @param cue the cue requesting a voice
+	 * @param now the current time, in nanoseconds
+	 * @return true if a voice was freed, false otherwise
+	 */
+	private boolean stealVoice(SoundCue cue, long now) {
+		SoundCue victim = null;
+		for (SoundCue candidate : SoundCue.values()) {
+			if (candidate.getPriority() < cue.getPriority() && isBusy(candidate, now)
+					&& (victim == null || candidate.getPriority() < victim.getPriority())) {
+				victim = candidate;
+			}
+		}
+		if (victim == null) {
+			return false;
+		}
+		stop(victim);
+		stolenCount++;
+		return true;
+	}
+
+	/**
+	 * Checks whether a cue holds at least one busy voice.
+	 *
+	 * @param cue the cue
+	 * @param now the current time, in nanoseconds
+	 * @return true if the cue holds a busy voice, false otherwise
+	 */
+	private boolean isBusy(SoundCue cue, long now) {
+		for (long end : voiceEnds[cue.ordinal()]) {
+			if (end > now) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of busy voices.
+	 *
+	 * @return the number of busy voices
+	 */
+	public synchronized int getActiveVoiceCount() {
+		return activeVoices(clock.getAsLong());
+	}
+
+	/**
+	 * Returns the number of cues played.
+	 *
+	 * @return the number of plays that reached the output
+	 */
+	public synchronized long getPlayedCount() {
+		return playedCount;
+	}
+
+	/**
+	 * Returns the number of requests dropped because the same cue was already played in the tick.
+	 *
+	 * @return the number of coalesced requests
+	 */
+	public synchronized long getCoalescedCount() {
+		return coalescedCount;
+	}
+
+	/**
+	 * Returns the number of requests dropped by the minimum retrigger interval.
+	 *
+	 * @return the number of throttled requests
+	 */
+	public synchronized long getThrottledCount() {
+		return throttledCount;
+	}
+
+	/**
+	 * Returns the number of requests dropped because no voice was available.
+	 *
+	 * @return the number of voice-limited requests
+	 */
+	public synchronized long getVoiceLimitedCount() {
+		return voiceLimitedCount;
+	}
+
+	/**
+	 * Returns the number of times a lower-priority cue was stopped to free a voice.
+	 *
+	 * @return the number of stolen voices
+	 */
+	public synchronized long getStolenCount() {
+		return stolenCount;
+	}
+
+	/**
+	 * The default output, playing cues through the shared clips of {@link SoundEffects}.
+	 */
+	private static class ClipOutput implements Output {
+
+		/**
+		 * Plays the shared clip of a cue, unless sound is turned off in {@link GameSettings}.
+		 *
+		 * @param cue the cue to play
+		 */
+		@Override
+		public void play(SoundCue cue) {
+			if (!GameSettings.isSoundEnabled()) {
+				return;
+			}
+			AudioClip clip = SoundEffects.loadSound(cue.getPath(), SoundCue.class);
+			if (clip != null) {
+				clip.play();
+			}
+		}
+
+		/**
+		 * Stops the shared clip of a cue if it is playing. Idle clips are skipped, since
+		 * stopping a clip waits for the clip scheduler thread.
+		 *
+		 * @param cue the cue to stop
+		 */
+		@Override
+		public void stop(SoundCue cue) {
+			if (!SoundEffects.isLoaded(cue.getPath())) {
+				return;
+			}
+			AudioClip clip = SoundEffects.loadSound(cue.getPath(), SoundCue.class);
+			if (clip != null && clip.isPlaying()) {
+				clip.stop();
+			}
+		}
+	}
+
+}
@@ -1,8 +1,6 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.media.AudioClip;
 
 /**
  * Represents a bomb object displaying on the screen and drops down.
@@ -10,10 +8,14 @@ import javafx.scene.media.AudioClip;
  */
 public class Bomb extends ImageView {
 
-    private static final String IMAGE_NAME = "/com/example/demo/images/bomb.png";
-    private static final int BOMB_SIZE = 70;
+    static final String IMAGE_NAME = "/com/example/demo/images/bomb.png";
+    static final int BOMB_SIZE = 70;
 
-    private AudioClip bombDropSound;
+    private static final int DROP_DISTANCE = 5;
+    private static final GameLog LOG = GameLog.get(Bomb.class);
+
+    private final ActorModel model;
+    private CollisionMask collisionMask;
 
     /**
      * Constructor that initializes the bomb at a specific position on the screen.
@@ -23,40 +25,74 @@ public class Bomb extends ImageView {
     public Bomb(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        var resource = getClass().getResource(IMAGE_NAME);
-        if (resource != null) {
-            this.setImage(new Image(resource.toExternalForm()));
+        if (SpriteAtlas.get().show(this, IMAGE_NAME, 0, BOMB_SIZE)) {
+            this.collisionMask = CollisionMask.forRegion(IMAGE_NAME, getImage(), getViewport(), BOMB_SIZE);
         } else {
-            System.out.println("Bomb image resource not found.");
+            LOG.warning("Bomb image resource not found.");
         }
         this.setFitHeight(BOMB_SIZE);
         this.setPreserveRatio(true);
+        this.model = new ActorModel(xPosition, yPosition, getLayoutBounds().getWidth(), getLayoutBounds().getHeight());
         initializeSounds();
     }
 
     /*
-     * Initializes the sound effects for the bomb drop.
+     * Loads the sound effects for the bomb drop.
      */
     private void initializeSounds() {
-        this.bombDropSound = SoundEffects.loadSound("/com/example/demo/sounds/bombdrop.wav", this.getClass());
+        AudioMixer.preload(SoundCue.BOMB_DROP);
     }
 
     /**
-     * Moves the bomb down by 5 pixels and plays the drop sound.
+     * Moves the simulated bomb down by 5 pixels and plays the drop sound.
+     * The node follows on the next call to {@link #syncView(double)}.
      */
     public void moveDown() {
-        this.setLayoutY(this.getLayoutY() + 5);
+        model.savePreviousPosition();
+        model.moveBy(0, DROP_DISTANCE);
         playBombDropSound();
     }
 
     /**
-     * Plays the bomb drop sound effect.
+     * Places the node between the bomb's previous and current simulated positions.
+     *
+     * @param alpha the interpolation factor, 0 for the previous and 1 for the current position
+     */
+    public void syncView(double alpha) {
+        this.setLayoutX(model.getInterpolatedX(alpha));
+        this.setLayoutY(model.getInterpolatedY(alpha));
+    }
+
+    /**
+     * Returns the simulated state of the bomb.
+     *
+     * @return the bomb's model
+     */
+    public ActorModel getModel() {
+        return model;
+    }
+
+    /**
+     * Plays the bomb drop sound effect through the audio mixer, which limits how many
+     * bombs are heard at once.
      */
     public void playBombDropSound() {
-        if (bombDropSound != null) {
-            bombDropSound.play();
-        } else {
-            System.out.println("Bomb drop sound is not initialized.");
-        }
+        AudioMixer.get().play(SoundCue.BOMB_DROP);
+    }
+
+    /**
+     * Stops the bomb drop sound effect.
+     */
+    public void stopBombDropSound() {
+        AudioMixer.get().stop(SoundCue.BOMB_DROP);
+    }
+
+    /**
+     * Returns the collision mask built from the bomb image at its display size.
+     *
+     * @return the collision mask, or null if the image could not be read
+     */
+    public CollisionMask getCollisionMask() {
+        return collisionMask;
     }
 }
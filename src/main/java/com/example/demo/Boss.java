@@ -10,13 +10,12 @@ import javafx.scene.media.AudioClip;
  */
 public class Boss extends FighterPlane {
 
-	private static final String IMAGE_NAME = "bossplane.png";
+	static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1120.0;
 	private static final double INITIAL_Y_POSITION = 450;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 0.0;
-	private static final double BOSS_FIRE_RATE = .04;
 	private static final double BOSS_SHIELD_PROBABILITY = 0.05;
-	private static final int IMAGE_HEIGHT = 170;
+	static final int IMAGE_HEIGHT = 170;
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 10;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
@@ -31,8 +30,7 @@ public class Boss extends FighterPlane {
 	private int consecutiveMovesInSameDirection;
 	private int indexOfCurrentMove;
 	private int framesWithShieldActivated;
-
-	private AudioClip fireballSound;
+	private BossShieldEvent shieldEvent;
 
 	/**
 	 * Creates a new Boss object with the specified image, initial position, and health.
@@ -49,20 +47,26 @@ public class Boss extends FighterPlane {
 	}
 
 	/**
-	 * Initializes the sound effects for the Boss.
+	 * Loads the sound effects for the Boss.
 	 */
 	private void initializeSounds() {
-		this.fireballSound = SoundEffects.loadSound("/com/example/demo/sounds/fireball.wav", this.getClass());
+		AudioMixer.preload(SoundCue.FIREBALL);
 	}
 
 	/**
-	 * Plays the specified sound effect.
-	 * @param sound the AudioClip to be played
+	 * Plays the specified sound effect through the audio mixer.
+	 * @param cue the SoundCue to be played
 	 */
-	private void playSound(AudioClip sound) {
-		if (sound != null) {
-			sound.play();
-		}
+	private void playSound(SoundCue cue) {
+		AudioMixer.get().play(cue);
+	}
+
+	/**
+	 * Stops the fireball sound effect of the Boss.
+	 */
+	@Override
+	public void stopSounds() {
+		AudioMixer.get().stop(SoundCue.FIREBALL);
 	}
 
 	/**
@@ -71,10 +75,10 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
+		double initialYPosition = getModel().getY();
 		moveVertically(getNextMove());
 		if (isOutOfBounds()) {
-			setTranslateY(initialTranslateY);
+			getModel().setY(initialYPosition);
 			resetMovePattern();
 		}
 	}
@@ -96,7 +100,7 @@ public class Boss extends FighterPlane {
 	public ActiveActorDestructible fireProjectile() {
 		if (bossFiresInCurrentFrame()) {
 			playFireballSound();
-			return new BossProjectile(getProjectileInitialPosition());
+			return BossProjectile.acquire(getProjectileInitialPosition());
 		}
 		return null;
 	}
@@ -144,7 +148,7 @@ public class Boss extends FighterPlane {
 	private int getNextMove() {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
+		if (consecutiveMovesInSameDirection >= toSteps(MAX_FRAMES_WITH_SAME_MOVE)) {
 			resetMovePattern();
 		}
 		return currentMove;
@@ -155,7 +159,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the Boss should fire, false otherwise
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return Math.random() < perStep(GameSettings.getBossFireRate());
 	}
 
 	/**
@@ -163,7 +167,7 @@ public class Boss extends FighterPlane {
 	 * @return the y-coordinate of the projectile's initial position
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + ((double) IMAGE_HEIGHT / 2) + PROJECTILE_Y_POSITION_OFFSET;
+		return getModel().getY() + ((double) IMAGE_HEIGHT / 2) + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 	/**
@@ -171,7 +175,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the Boss should activate its shield, false otherwise
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return Math.random() < perStep(BOSS_SHIELD_PROBABILITY);
 	}
 
 	/**
@@ -179,20 +183,32 @@ public class Boss extends FighterPlane {
 	 * @return true if the shield has been exhausted, false otherwise
 	 */
 	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+		return framesWithShieldActivated >= toSteps(MAX_FRAMES_WITH_SHIELD);
 	}
 
 	/**
-	 * Activates the Boss's shield.
+	 * Activates the Boss's shield. While Flight Recorder is on, a {@link BossShieldEvent} is
+	 * started and committed when the shield goes down.
 	 */
 	private void activateShield() {
 		isShielded = true;
+		BossShieldEvent event = new BossShieldEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			event.bossHealth = getHealth();
+			shieldEvent = event;
+		}
 	}
 
 	/**
-	 * Deactivates the Boss's shield.
+	 * Deactivates the Boss's shield, committing its {@link BossShieldEvent} if one was started.
 	 */
 	private void deactivateShield() {
+		if (shieldEvent != null) {
+			shieldEvent.frames = framesWithShieldActivated;
+			shieldEvent.commit();
+			shieldEvent = null;
+		}
 		isShielded = false;
 		framesWithShieldActivated = 0;
 	}
@@ -202,7 +218,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the Boss is out of bounds, false otherwise
 	 */
 	private boolean isOutOfBounds() {
-		double currentPosition = getLayoutY() + getTranslateY();
+		double currentPosition = getModel().getY();
 		return currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND;
 	}
 
@@ -230,7 +246,7 @@ public class Boss extends FighterPlane {
 	 * Plays the fireball sound effect.
 	 */
 	public void playFireballSound() {
-		playSound(fireballSound);
+		playSound(SoundCue.FIREBALL);
 	}
 
 	/**
@@ -250,9 +266,9 @@ public class Boss extends FighterPlane {
 	/**
 	 * Returns the fireball sound effect, intended for JUnit testing only.
 	 *
-	 * @return the AudioClip representing the fireball sound effect
+	 * @return the shared AudioClip representing the fireball sound effect
 	 */
 	public AudioClip getFireballSound() {
-		return fireballSound;
+		return SoundEffects.loadSound(SoundCue.FIREBALL.getPath(), SoundCue.class);
 	}
 }
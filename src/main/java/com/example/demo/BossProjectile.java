@@ -7,10 +7,12 @@ package com.example.demo;
  */
 public class BossProjectile extends Projectile {
 	
-	private static final String IMAGE_NAME = "fireball.png";
-	private static final int IMAGE_HEIGHT = 30;
+	static final String IMAGE_NAME = "fireball.png";
+	static final int IMAGE_HEIGHT = 30;
 	private static final int HORIZONTAL_VELOCITY = -15;
 	private static final int INITIAL_X_POSITION = 950;
+	private static final ProjectilePool<BossProjectile> POOL =
+			new ProjectilePool<>(GameConstants.PROJECTILE_POOL_CAPACITY, () -> new BossProjectile(0));
 
 	/**
 	 * Constructs a BossProjectile with the specified initial Y position.
@@ -21,6 +23,27 @@ public class BossProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
 
+	/**
+	 * Returns a BossProjectile from the pool placed at the specified initial Y position.
+	 *
+	 * @param initialYPos The initial Y position of the projectile.
+	 * @return a boss projectile ready to be fired
+	 */
+	public static BossProjectile acquire(double initialYPos) {
+		BossProjectile projectile = POOL.acquire();
+		projectile.reset(INITIAL_X_POSITION, initialYPos);
+		return projectile;
+	}
+
+	/**
+	 * Returns the pool of boss projectiles.
+	 *
+	 * @return the pool
+	 */
+	public static ProjectilePool<BossProjectile> getPool() {
+		return POOL;
+	}
+
 	/**
 	 * Updates the position of the BossProjectile by moving it horizontally.
 	 */
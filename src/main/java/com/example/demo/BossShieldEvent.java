@@ -0,0 +1,28 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the time the boss's shield is up.
+ */
+@Name("com.example.demo.BossShield")
+@Label("Boss Shield")
+@Category({"Sky Battle", "Actors"})
+@Description("The boss's shield was active")
+@StackTrace(false)
+public class BossShieldEvent extends Event {
+
+	@Label("Boss Health")
+	@Description("Health of the boss when the shield went up")
+	int bossHealth;
+
+	@Label("Frames")
+	@Description("Number of simulation steps the shield lasted")
+	int frames;
+
+}
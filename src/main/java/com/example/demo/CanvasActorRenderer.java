@@ -0,0 +1,132 @@
+package com.example.demo;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The {@code CanvasActorRenderer} class draws every actor onto a single {@link Canvas} covering
+ * the screen. The canvas is cleared at the start of each frame and each sprite is drawn with
+ * {@link GraphicsContext#drawImage}, using its atlas viewport when it has one, so the scene graph
+ * holds one node for all actors however many are on screen. Sprite nodes are kept only as
+ * carriers of image, viewport and position and are never attached to the scene.
+ * <p>
+ * The canvas is inserted into the root at a given index, so the background stays below the
+ * actors and the HUD above them.
+ */
+public class CanvasActorRenderer implements ActorRenderer {
+
+	private final Group root;
+	private final Canvas canvas;
+	private final GraphicsContext graphics;
+	private int frameCount;
+	private int renderedCount;
+
+	/**
+	 * Constructs a new {@code CanvasActorRenderer} and inserts its canvas into the root.
+	 *
+	 * @param root   the group the canvas is added to
+	 * @param index  the index of the canvas among the root's children
+	 * @param width  the width of the canvas
+	 * @param height the height of the canvas
+	 */
+	public CanvasActorRenderer(Group root, int index, double width, double height) {
+		this.root = root;
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		canvas.setMouseTransparent(true);
+		root.getChildren().add(index, canvas);
+	}
+
+	/**
+	 * Clears the canvas.
+	 */
+	@Override
+	public void beginFrame() {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		frameCount = 0;
+	}
+
+	/**
+	 * Draws the sprite onto the canvas. A sprite that was attached to the scene by level code
+	 * is detached first, so it is not drawn twice. Hidden sprites and sprites without an image
+	 * are skipped.
+	 *
+	 * @param sprite the sprite to render
+	 */
+	@Override
+	public void render(ImageView sprite) {
+		if (sprite.getParent() == root) {
+			root.getChildren().remove(sprite);
+		}
+		Image image = sprite.getImage();
+		if (image == null || !sprite.isVisible()) {
+			return;
+		}
+		Bounds bounds = sprite.getLayoutBounds();
+		double x = sprite.getLayoutX() + sprite.getTranslateX() + bounds.getMinX();
+		double y = sprite.getLayoutY() + sprite.getTranslateY() + bounds.getMinY();
+		Rectangle2D viewport = sprite.getViewport();
+		if (viewport != null) {
+			graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+					x, y, bounds.getWidth(), bounds.getHeight());
+		} else {
+			graphics.drawImage(image, x, y, bounds.getWidth(), bounds.getHeight());
+		}
+		frameCount++;
+	}
+
+	/**
+	 * Detaches the sprite if level code attached it to the scene. Otherwise there is nothing
+	 * to do, since a sprite that is no longer rendered disappears when the canvas is next cleared.
+	 *
+	 * @param sprite the sprite to remove
+	 */
+	@Override
+	public void remove(ImageView sprite) {
+		if (sprite.getParent() == root) {
+			root.getChildren().remove(sprite);
+		}
+	}
+
+	/**
+	 * Records the number of sprites drawn in the frame.
+	 */
+	@Override
+	public void endFrame() {
+		renderedCount = frameCount;
+	}
+
+	/**
+	 * Returns the number of sprites drawn during the last completed frame.
+	 *
+	 * @return the number of drawn sprites
+	 */
+	@Override
+	public int getRenderedCount() {
+		return renderedCount;
+	}
+
+	/**
+	 * Clears the canvas and removes it from the root.
+	 */
+	@Override
+	public void dispose() {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		root.getChildren().remove(canvas);
+	}
+
+	/**
+	 * Returns the canvas the actors are drawn onto.
+	 *
+	 * @return the canvas
+	 */
+	Canvas getCanvas() {
+		return canvas;
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the collision checks between two groups of actors during
+ * one simulation step.
+ */
+@Name("com.example.demo.Collision")
+@Label("Collision Check")
+@Category({"Sky Battle", "Simulation"})
+@Description("Collision checks between two groups of actors")
+@StackTrace(false)
+public class CollisionEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Actor Type")
+	@Description("The groups of actors checked against each other")
+	String actorType;
+
+	@Label("Actors")
+	@Description("Number of actors in the first group")
+	int actors;
+
+	@Label("Targets")
+	@Description("Number of actors in the second group")
+	int targets;
+
+	@Label("Candidates")
+	@Description("Number of pairs returned by the collision grid")
+	int candidates;
+
+	@Label("Collisions")
+	@Description("Number of pairs that collided")
+	int collisions;
+
+}
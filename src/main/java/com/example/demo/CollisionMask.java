@@ -0,0 +1,216 @@
+package com.example.demo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+
+/**
+ * The {@code CollisionMask} class is a 1-bit-per-pixel map of the opaque pixels of a sprite,
+ * built once from the sprite's alpha channel at its on-screen size. Each row is packed into
+ * {@code long} words so that two masks can be tested for overlap 64 pixels at a time.
+ * <p>
+ * Masks are used as a narrowphase after two bounding boxes have been found to intersect,
+ * so transparent corners of a sprite no longer register hits.
+ */
+public class CollisionMask {
+
+	private static final int ALPHA_THRESHOLD = 64;
+	private static final int BITS_PER_WORD = 64;
+	private static final Map<String, CollisionMask> CACHE = new ConcurrentHashMap<>();
+
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] bits;
+
+	/**
+	 * Constructs an empty {@code CollisionMask} with every pixel transparent.
+	 *
+	 * @param width  the width of the mask, in pixels
+	 * @param height the height of the mask, in pixels
+	 */
+	CollisionMask(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + BITS_PER_WORD - 1) / BITS_PER_WORD;
+		this.bits = new long[wordsPerRow * height];
+	}
+
+	/**
+	 * Returns the mask of a sprite scaled to the given display height, building it from the
+	 * image's alpha channel the first time that sprite and height are requested.
+	 *
+	 * @param imageName     the name identifying the sprite
+	 * @param image         the loaded sprite image
+	 * @param displayHeight the height the sprite is displayed at, with its ratio preserved
+	 * @return the collision mask, or null if the image has no readable pixels
+	 */
+	public static CollisionMask forImage(String imageName, Image image, int displayHeight) {
+		return forRegion(imageName, image, null, displayHeight);
+	}
+
+	/**
+	 * Returns the mask of a sprite drawn from a region of an image, such as a sprite atlas,
+	 * scaled to the given display height. Only the pixels inside the region are sampled.
+	 *
+	 * @param imageName     the name identifying the sprite
+	 * @param image         the loaded image holding the sprite
+	 * @param region        the region of the image holding the sprite, or null for the whole image
+	 * @param displayHeight the height the sprite is displayed at, with its ratio preserved
+	 * @return the collision mask, or null if the image has no readable pixels
+	 */
+	public static CollisionMask forRegion(String imageName, Image image, Rectangle2D region, int displayHeight) {
+		if (image == null || image.isError() || image.getPixelReader() == null || image.getHeight() <= 0) {
+			return null;
+		}
+		Rectangle2D source = region != null ? region : new Rectangle2D(0, 0, image.getWidth(), image.getHeight());
+		return CACHE.computeIfAbsent(imageName + "@" + displayHeight, key -> fromImage(image, source, displayHeight));
+	}
+
+	/**
+	 * Builds a mask by sampling the alpha channel of a region of an image at the display size.
+	 *
+	 * @param image         the sprite image
+	 * @param region        the region of the image holding the sprite
+	 * @param displayHeight the height the sprite is displayed at
+	 * @return the collision mask
+	 */
+	private static CollisionMask fromImage(Image image, Rectangle2D region, int displayHeight) {
+		PixelReader reader = image.getPixelReader();
+		double scale = region.getHeight() / displayHeight;
+		int displayWidth = (int) Math.ceil(region.getWidth() / scale);
+		int sourceX0 = (int) region.getMinX();
+		int sourceY0 = (int) region.getMinY();
+		int sourceWidth = (int) region.getWidth();
+		int sourceHeight = (int) region.getHeight();
+		CollisionMask mask = new CollisionMask(displayWidth, displayHeight);
+		for (int y = 0; y < displayHeight; y++) {
+			int sourceY = sourceY0 + Math.min(sourceHeight - 1, (int) (y * scale));
+			for (int x = 0; x < displayWidth; x++) {
+				int sourceX = sourceX0 + Math.min(sourceWidth - 1, (int) (x * scale));
+				if ((reader.getArgb(sourceX, sourceY) >>> 24) >= ALPHA_THRESHOLD) {
+					mask.setOpaque(x, y);
+				}
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Marks a pixel of the mask as opaque.
+	 *
+	 * @param x the x coordinate of the pixel
+	 * @param y the y coordinate of the pixel
+	 */
+	void setOpaque(int x, int y) {
+		bits[y * wordsPerRow + x / BITS_PER_WORD] |= 1L << (x % BITS_PER_WORD);
+	}
+
+	/**
+	 * Checks whether a pixel of the mask is opaque.
+	 *
+	 * @param x the x coordinate of the pixel
+	 * @param y the y coordinate of the pixel
+	 * @return true if the pixel is opaque, false otherwise
+	 */
+	public boolean isOpaque(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + x / BITS_PER_WORD] & (1L << (x % BITS_PER_WORD))) != 0;
+	}
+
+	/**
+	 * Checks whether two masks placed at the given positions have an opaque pixel in common.
+	 * Rows are compared one 64-pixel word at a time with a bitwise AND.
+	 *
+	 * @param first   the first mask
+	 * @param firstX  the x coordinate of the first mask's top-left corner
+	 * @param firstY  the y coordinate of the first mask's top-left corner
+	 * @param second  the second mask
+	 * @param secondX the x coordinate of the second mask's top-left corner
+	 * @param secondY the y coordinate of the second mask's top-left corner
+	 * @return true if the masks overlap, false otherwise
+	 */
+	public static boolean overlaps(CollisionMask first, double firstX, double firstY,
+								   CollisionMask second, double secondX, double secondY) {
+		int offsetX = (int) Math.round(secondX - firstX);
+		int offsetY = (int) Math.round(secondY - firstY);
+		int startRow = Math.max(0, offsetY);
+		int endRow = Math.min(first.height, offsetY + second.height);
+		int startColumn = Math.max(0, offsetX);
+		int endColumn = Math.min(first.width, offsetX + second.width);
+		if (startRow >= endRow || startColumn >= endColumn) {
+			return false;
+		}
+		int firstWord = startColumn / BITS_PER_WORD;
+		int lastWord = (endColumn - 1) / BITS_PER_WORD;
+		for (int row = startRow; row < endRow; row++) {
+			int secondRow = row - offsetY;
+			for (int word = firstWord; word <= lastWord; word++) {
+				long firstBits = first.bits[row * first.wordsPerRow + word];
+				if (firstBits != 0 && (firstBits & second.bitsAt(secondRow, word * BITS_PER_WORD - offsetX)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns 64 pixels of a row starting at an arbitrary, possibly negative, column.
+	 * Bit {@code k} of the result holds the pixel at column {@code start + k}.
+	 *
+	 * @param row   the row to read
+	 * @param start the first column to read
+	 * @return the pixels packed into a word, with out-of-range pixels transparent
+	 */
+	private long bitsAt(int row, int start) {
+		if (start >= width || start <= -BITS_PER_WORD) {
+			return 0L;
+		}
+		int word = Math.floorDiv(start, BITS_PER_WORD);
+		int shift = Math.floorMod(start, BITS_PER_WORD);
+		long low = wordAt(row, word);
+		if (shift == 0) {
+			return low;
+		}
+		return (low >>> shift) | (wordAt(row, word + 1) << (BITS_PER_WORD - shift));
+	}
+
+	/**
+	 * Returns a word of a row, or zero if the word lies outside the mask.
+	 *
+	 * @param row  the row to read
+	 * @param word the index of the word within the row
+	 * @return the word
+	 */
+	private long wordAt(int row, int word) {
+		if (word < 0 || word >= wordsPerRow) {
+			return 0L;
+		}
+		return bits[row * wordsPerRow + word];
+	}
+
+	/**
+	 * Returns the width of the mask.
+	 *
+	 * @return the width, in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the mask.
+	 *
+	 * @return the height, in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+}
@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.media.AudioClip;
-
 /**
  * The {@code EnemyPlane} class represents an enemy plane in the game.
  * It extends the {@link FighterPlane} class and includes functionality
@@ -9,16 +7,12 @@ import javafx.scene.media.AudioClip;
  */
 public class EnemyPlane extends FighterPlane {
 
-	private static final String IMAGE_NAME = "enemyplane.png";
-	private static final int IMAGE_HEIGHT = 100;
+	static final String IMAGE_NAME = "enemyplane.png";
+	static final int IMAGE_HEIGHT = 100;
 	private static final int HORIZONTAL_VELOCITY = -6;
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 25.0;
 	private static final int INITIAL_HEALTH = 1;
-	private static final double FIRE_RATE = .01;
-
-	private AudioClip enemyDestroySound;
-	private AudioClip fireSound;
 
 	/**
 	 * Constructs an {@code EnemyPlane} with the specified initial position.
@@ -28,26 +22,31 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-		initializeSounds();
 	}
 
 	/**
-	 * Initializes the sound effects for the enemy plane.
+	 * Loads the sound effects shared by all enemy planes, so that spawning one does no audio I/O.
 	 */
-	private void initializeSounds() {
-		this.enemyDestroySound = SoundEffects.loadSound("/com/example/demo/sounds/enemydestroy.wav", this.getClass());
-		this.fireSound = SoundEffects.loadSound("/com/example/demo/sounds/enemyfire.wav", this.getClass());
+	public static void preloadSounds() {
+		AudioMixer.preload(SoundCue.ENEMY_DESTROY, SoundCue.ENEMY_FIRE);
 	}
 
 	/**
-	 * Plays the specified sound effect.
+	 * Plays the specified sound effect through the audio mixer.
 	 *
-	 * @param sound The {@code AudioClip} to be played.
+	 * @param cue The {@code SoundCue} to be played.
 	 */
-	private void playSound(AudioClip sound) {
-		if (sound != null) {
-			sound.play();
-		}
+	private void playSound(SoundCue cue) {
+		AudioMixer.get().play(cue);
+	}
+
+	/**
+	 * Stops the sound effects of the enemy plane.
+	 */
+	@Override
+	public void stopSounds() {
+		AudioMixer.get().stop(SoundCue.ENEMY_DESTROY);
+		AudioMixer.get().stop(SoundCue.ENEMY_FIRE);
 	}
 
 	/**
@@ -66,12 +65,12 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (Math.random() < perStep(GameSettings.getEnemyFireRate())) {
 			double[] projectilePosition = getProjectilePosition(PROJECTILE_X_POSITION_OFFSET, PROJECTILE_Y_POSITION_OFFSET);
 			double projectileXPosition = projectilePosition[0];
 			double projectileYPosition = projectilePosition[1];
-			playSound(fireSound);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
+			playSound(SoundCue.ENEMY_FIRE);
+			return EnemyProjectile.acquire(projectileXPosition, projectileYPosition);
 		}
 		return null;
 	}
@@ -88,7 +87,7 @@ public class EnemyPlane extends FighterPlane {
 	 * Plays the sound effect for when the enemy plane is destroyed.
 	 */
 	public void playEnemyDestroySound() {
-		playSound(enemyDestroySound);
+		playSound(SoundCue.ENEMY_DESTROY);
 	}
 
 }
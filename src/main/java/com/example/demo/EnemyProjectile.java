@@ -7,9 +7,11 @@ package com.example.demo;
  */
 public class EnemyProjectile extends Projectile {
 	
-	private static final String IMAGE_NAME = "enemyFire.png";
-	private static final int IMAGE_HEIGHT = 60;
-	private static final int HORIZONTAL_VELOCITY = -10;
+	static final String IMAGE_NAME = "enemyFire.png";
+	static final int IMAGE_HEIGHT = 60;
+	static final int HORIZONTAL_VELOCITY = -10;
+	private static final ProjectilePool<EnemyProjectile> POOL =
+			new ProjectilePool<>(GameConstants.PROJECTILE_POOL_CAPACITY, () -> new EnemyProjectile(0, 0));
 
 	/**
 	 * Constructs an EnemyProjectile with the specified initial X and Y positions.
@@ -21,6 +23,28 @@ public class EnemyProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Returns an EnemyProjectile from the pool placed at the specified initial X and Y positions.
+	 *
+	 * @param initialXPos the initial X position
+	 * @param initialYPos the initial Y position
+	 * @return an enemy projectile ready to be fired
+	 */
+	public static EnemyProjectile acquire(double initialXPos, double initialYPos) {
+		EnemyProjectile projectile = POOL.acquire();
+		projectile.reset(initialXPos, initialYPos);
+		return projectile;
+	}
+
+	/**
+	 * Returns the pool of enemy projectiles.
+	 *
+	 * @return the pool
+	 */
+	public static ProjectilePool<EnemyProjectile> getPool() {
+		return POOL;
+	}
+
 	/**
 	 * Updates the position of the EnemyProjectile by moving it horizontally.
 	 */
@@ -0,0 +1,30 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when an enemy unit joins a level.
+ */
+@Name("com.example.demo.EnemySpawn")
+@Label("Enemy Spawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An enemy unit joined the level")
+@StackTrace(false)
+public class EnemySpawnEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Actor Type")
+	String actorType;
+
+	@Label("Enemy Count")
+	@Description("Number of enemy units after the spawn")
+	int enemyCount;
+
+}
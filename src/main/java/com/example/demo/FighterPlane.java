@@ -7,7 +7,6 @@ package com.example.demo;
 public abstract class FighterPlane extends ActiveActorDestructible {
 
 	private static final int DAMAGE_AMOUNT = 1;
-	private int health;
 
 	/**
 	 * Constructs a FighterPlane with specified image and initial position.
@@ -20,7 +19,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
-		this.health = health;
+		getModel().setHealth(health);
 	}
 
 	/**
@@ -38,7 +37,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	@Override
 	public void takeDamage() {
 		decreaseHealth();
-		if (health <= 0) {
+		if (getModel().getHealth() <= 0) {
 			this.destroy();
 		}
 	}
@@ -48,7 +47,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * remains non-negative.
 	 */
 	protected void decreaseHealth() {
-		this.health = Math.max(0, this.health - DAMAGE_AMOUNT);
+		getModel().setHealth(Math.max(0, getModel().getHealth() - DAMAGE_AMOUNT));
 	}
 
 	/**
@@ -61,8 +60,8 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	protected double[] getProjectilePosition(double xPositionOffset, double yPositionOffset) {
 		return new double[] {
-				getLayoutX() + getTranslateX() + xPositionOffset,
-				getLayoutY() + getTranslateY() + yPositionOffset
+				getModel().getX() + xPositionOffset,
+				getModel().getY() + yPositionOffset
 		};
 	}
 
@@ -72,7 +71,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @param health the new health value to be assigned
 	 */
 	public void setHealth(int health) {
-		this.health = health;
+		getModel().setHealth(health);
 	}
 
 	/**
@@ -81,7 +80,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the health of the fighter plane
 	 */
 	public int getHealth() {
-		return health;
+		return getModel().getHealth();
 	}
 
 		
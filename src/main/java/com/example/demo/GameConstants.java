@@ -17,8 +17,20 @@ public class GameConstants {
     public static final String GAME_TUTORIAL = "/com/example/demo/images/howtoplay.png";
     public static final int TOTAL_ENEMIES = 10;
     public static final int KILLS_TO_LEVEL_TWO = 5;
+    public static final int KILLS_BEFORE_PREPARING_LEVEL_TWO = KILLS_TO_LEVEL_TWO - 2;
+    public static final int BOSS_HEALTH_BEFORE_PREPARING_LEVEL_THREE = 3;
     public static final int SPAWN_INTERVAL_MS = 1000;
+    public static final double ENEMY_FIRE_RATE = .01;
+    public static final double BOSS_FIRE_RATE = .04;
     public static final int PLAYER_INITIAL_HEALTH = 5;
+    public static final double COLLISION_CELL_SIZE = 128;
+    public static final boolean SWEPT_COLLISIONS = true;
+    public static final double SWEEP_SAMPLE_SPACING = 4;
+    public static final int MAX_SWEEP_SAMPLES = 16;
+    public static final double CULL_MARGIN = 100;
+    public static final int PROJECTILE_POOL_CAPACITY = 64;
+    public static final long IMAGE_CACHE_BUDGET_BYTES = 128L * 1024 * 1024;
+    public static final long HOT_PATH_LOG_INTERVAL_MS = 1000;
 
     public static final double HEART_DISPLAY_X_POSITION = 5;
     public static final double HEART_DISPLAY_Y_POSITION = 10;
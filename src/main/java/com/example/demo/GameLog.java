@@ -0,0 +1,354 @@
+package com.example.demo;
+
+import java.io.PrintStream;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * The {@code GameLog} class is the logging facade of the game. Logging never does I/O or
+ * message formatting on the calling thread: a message below the configured level costs one
+ * comparison, and any other message is captured as its pattern and parameters and put into a
+ * bounded ring buffer. A background thread formats the buffered entries and writes them, one
+ * line each, as {@code time level [thread] logger: message}. When the buffer is full, new
+ * entries are dropped and counted rather than blocking the game.
+ * <p>
+ * Patterns use {@link MessageFormat} placeholders such as {@code {0}}. A logger made with
+ * {@link #rateLimited(long)} emits at most one message per interval and reports how many it
+ * suppressed with the next one, for events raised on every simulation step. The level is read
+ * from {@link GameSettings#getLogLevel()}, set at startup with {@code -Dskybattle.logLevel}.
+ */
+public final class GameLog {
+
+	static final int BUFFER_CAPACITY = 1024;
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	private static final BlockingQueue<Entry> BUFFER = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+	private static final AtomicLong ENQUEUED_COUNT = new AtomicLong();
+	private static final AtomicLong DROPPED_COUNT = new AtomicLong();
+	private static volatile long writtenCount;
+	private static volatile PrintStream output = System.out;
+
+	static {
+		Thread writer = new Thread(GameLog::drainForever, "game-log-writer");
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(GameLog::drain, "game-log-shutdown"));
+	}
+
+	private final String name;
+	private final long minIntervalNanos;
+	private long lastEmitNanos;
+	private boolean emitted;
+	private int suppressedCount;
+
+	/**
+	 * Constructs a logger.
+	 *
+	 * @param name             the name written with each message
+	 * @param minIntervalNanos the minimum time between two messages, or 0 for no limit
+	 */
+	private GameLog(String name, long minIntervalNanos) {
+		this.name = name;
+		this.minIntervalNanos = minIntervalNanos;
+	}
+
+	/**
+	 * Returns a logger named after a class.
+	 *
+	 * @param type the class using the logger
+	 * @return the logger
+	 */
+	public static GameLog get(Class<?> type) {
+		return new GameLog(type.getSimpleName(), 0);
+	}
+
+	/**
+	 * Returns a logger with the same name that emits at most one message per interval.
+	 * Messages within the interval are dropped, and their number is appended to the next
+	 * message emitted.
+	 *
+	 * @param minIntervalMillis the minimum time between two messages, in milliseconds
+	 * @return the rate-limited logger
+	 */
+	public GameLog rateLimited(long minIntervalMillis) {
+		if (minIntervalMillis <= 0) {
+			throw new IllegalArgumentException("Interval must be positive: " + minIntervalMillis);
+		}
+		return new GameLog(name, minIntervalMillis * NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Checks whether messages of a level are written.
+	 *
+	 * @param level the level
+	 * @return true if the level is at or above the configured level, false otherwise
+	 */
+	public boolean isLoggable(Level level) {
+		return level.intValue() >= GameSettings.getLogLevel().intValue();
+	}
+
+	/**
+	 * Logs a message at {@link Level#FINE}.
+	 *
+	 * @param pattern the message pattern
+	 * @param params  the pattern parameters
+	 */
+	public void fine(String pattern, Object... params) {
+		log(Level.FINE, pattern, params, null);
+	}
+
+	/**
+	 * Logs a message at {@link Level#INFO}.
+	 *
+	 * @param pattern the message pattern
+	 * @param params  the pattern parameters
+	 */
+	public void info(String pattern, Object... params) {
+		log(Level.INFO, pattern, params, null);
+	}
+
+	/**
+	 * Logs a message at {@link Level#WARNING}.
+	 *
+	 * @param pattern the message pattern
+	 * @param params  the pattern parameters
+	 */
+	public void warning(String pattern, Object... params) {
+		log(Level.WARNING, pattern, params, null);
+	}
+
+	/**
+	 * Logs a message built by a supplier, which is only called on the writer thread and only
+	 * if the message is written.
+	 *
+	 * @param level   the level of the message
+	 * @param message the supplier of the message
+	 */
+	public void log(Level level, Supplier<String> message) {
+		log(level, null, new Object[] {message}, null);
+	}
+
+	/**
+	 * Logs a message with the exception that caused it.
+	 *
+	 * @param level   the level of the message
+	 * @param message the message
+	 * @param thrown  the exception
+	 */
+	public void log(Level level, String message, Throwable thrown) {
+		log(level, message, null, thrown);
+	}
+
+	/**
+	 * Filters a message by level and rate, then hands it to the writer thread.
+	 *
+	 * @param level   the level of the message
+	 * @param pattern the message pattern, or null if the only parameter supplies the message
+	 * @param params  the pattern parameters, or null
+	 * @param thrown  the exception to write with the message, or null
+	 */
+	private void log(Level level, String pattern, Object[] params, Throwable thrown) {
+		if (!isLoggable(level)) {
+			return;
+		}
+		int suppressed = 0;
+		long now = System.nanoTime();
+		if (minIntervalNanos > 0) {
+			synchronized (this) {
+				if (emitted && now - lastEmitNanos < minIntervalNanos) {
+					suppressedCount++;
+					return;
+				}
+				emitted = true;
+				lastEmitNanos = now;
+				suppressed = suppressedCount;
+				suppressedCount = 0;
+			}
+		}
+		Entry entry = new Entry(System.currentTimeMillis(), level, Thread.currentThread().getName(),
+				name, pattern, params, thrown, suppressed);
+		if (BUFFER.offer(entry)) {
+			ENQUEUED_COUNT.incrementAndGet();
+		} else {
+			DROPPED_COUNT.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Writes buffered entries until the virtual machine exits. Runs on the writer thread.
+	 */
+	private static void drainForever() {
+		while (true) {
+			try {
+				write(BUFFER.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Writes every entry still buffered. Runs when the virtual machine shuts down, so that the
+	 * last messages of the game are not lost.
+	 */
+	private static void drain() {
+		Entry entry;
+		while ((entry = BUFFER.poll()) != null) {
+			write(entry);
+		}
+		output.flush();
+	}
+
+	/**
+	 * Formats and writes one entry. Errors in parameters or suppliers are written in place of
+	 * the message, so a faulty message never stops the writer.
+	 *
+	 * @param entry the entry to write
+	 */
+	private static synchronized void write(Entry entry) {
+		String line;
+		try {
+			line = entry.format();
+		} catch (RuntimeException e) {
+			line = entry.prefix() + "<could not format message: " + e + ">";
+		}
+		PrintStream stream = output;
+		stream.println(line);
+		if (entry.thrown != null) {
+			entry.thrown.printStackTrace(stream);
+		}
+		writtenCount++;
+	}
+
+	/**
+	 * Waits until every entry logged so far has been written. Meant for tests and shutdown,
+	 * never for the game loop.
+	 *
+	 * @param timeoutMillis the maximum time to wait, in milliseconds
+	 * @return true if every entry was written, false if the timeout elapsed or the wait was interrupted
+	 */
+	public static boolean flush(long timeoutMillis) {
+		long target = ENQUEUED_COUNT.get();
+		long deadline = System.nanoTime() + timeoutMillis * NANOS_PER_MILLI;
+		while (writtenCount < target) {
+			if (System.nanoTime() > deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		output.flush();
+		return true;
+	}
+
+	/**
+	 * Returns the number of entries dropped because the buffer was full.
+	 *
+	 * @return the number of dropped entries
+	 */
+	public static long getDroppedCount() {
+		return DROPPED_COUNT.get();
+	}
+
+	/**
+	 * Returns the number of entries written.
+	 *
+	 * @return the number of written entries
+	 */
+	public static long getWrittenCount() {
+		return writtenCount;
+	}
+
+	/**
+	 * Sets the stream the writer thread writes to, standard output by default.
+	 *
+	 * @param stream the output stream
+	 */
+	static void setOutput(PrintStream stream) {
+		output = stream;
+	}
+
+	/**
+	 * A message captured on the logging thread and formatted on the writer thread.
+	 */
+	private static final class Entry {
+
+		private final long timeMillis;
+		private final Level level;
+		private final String thread;
+		private final String logger;
+		private final String pattern;
+		private final Object[] params;
+		private final Throwable thrown;
+		private final int suppressed;
+
+		/**
+		 * Constructs an entry.
+		 *
+		 * @param timeMillis the time the message was logged
+		 * @param level      the level of the message
+		 * @param thread     the name of the logging thread
+		 * @param logger     the name of the logger
+		 * @param pattern    the message pattern, or null if the only parameter supplies the message
+		 * @param params     the pattern parameters, or null
+		 * @param thrown     the exception to write with the message, or null
+		 * @param suppressed the number of messages suppressed by rate limiting before this one
+		 */
+		Entry(long timeMillis, Level level, String thread, String logger, String pattern,
+			  Object[] params, Throwable thrown, int suppressed) {
+			this.timeMillis = timeMillis;
+			this.level = level;
+			this.thread = thread;
+			this.logger = logger;
+			this.pattern = pattern;
+			this.params = params;
+			this.thrown = thrown;
+			this.suppressed = suppressed;
+		}
+
+		/**
+		 * Returns the time, level, thread and logger columns of the line.
+		 *
+		 * @return the line prefix
+		 */
+		String prefix() {
+			LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(timeMillis), ZoneId.systemDefault());
+			return TIME_FORMAT.format(time) + " " + level.getName() + " [" + thread + "] " + logger + ": ";
+		}
+
+		/**
+		 * Formats the whole line.
+		 *
+		 * @return the line, without a line separator
+		 */
+		String format() {
+			String message;
+			if (pattern == null) {
+				message = String.valueOf(((Supplier<?>) params[0]).get());
+			} else if (params == null || params.length == 0) {
+				message = pattern;
+			} else {
+				message = MessageFormat.format(pattern, params);
+			}
+			if (suppressed > 0) {
+				message += " (" + suppressed + " similar messages suppressed)";
+			}
+			return prefix() + message;
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The {@code GameLoop} class drives a level from the JavaFX pulse with a fixed simulation step.
+ * Elapsed frame time is added to an accumulator, the simulation is advanced in whole steps
+ * while the accumulator holds at least one step, and the remaining fraction of a step is
+ * passed to the renderer so that actors can be drawn between their last two simulated
+ * positions. The simulation rate is therefore independent of the display refresh rate.
+ */
+public class GameLoop extends AnimationTimer {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final int MAX_STEPS_PER_FRAME = 5;
+
+	private final Runnable simulation;
+	private final DoubleConsumer renderer;
+
+	private long stepNanos;
+	private long accumulatorNanos;
+	private long lastFrameNanos;
+	private long frameStartNanos;
+	private boolean running;
+
+	/**
+	 * Constructs a new {@code GameLoop}.
+	 *
+	 * @param simulationRate the number of simulation steps per second
+	 * @param simulation     the action advancing the simulation by one step
+	 * @param renderer       the action rendering a frame, given the interpolation factor
+	 *                       between the previous and the current simulation state
+	 */
+	public GameLoop(double simulationRate, Runnable simulation, DoubleConsumer renderer) {
+		this.simulation = simulation;
+		this.renderer = renderer;
+		setSimulationRate(simulationRate);
+	}
+
+	/**
+	 * Starts the loop. Time spent while the loop was stopped is not simulated.
+	 */
+	@Override
+	public void start() {
+		lastFrameNanos = -1;
+		accumulatorNanos = 0;
+		running = true;
+		super.start();
+	}
+
+	/**
+	 * Stops the loop. Steps still pending in the current frame are discarded.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	/**
+	 * Advances the simulation by as many fixed steps as the elapsed time allows and renders
+	 * the frame. A frame whose steps stopped the loop is still rendered, at the final state.
+	 *
+	 * @param now the timestamp of the current frame, in nanoseconds
+	 */
+	@Override
+	public void handle(long now) {
+		frameStartNanos = System.nanoTime();
+		if (lastFrameNanos < 0) {
+			lastFrameNanos = now;
+		}
+		accumulatorNanos += now - lastFrameNanos;
+		lastFrameNanos = now;
+
+		int steps = 0;
+		while (running && accumulatorNanos >= stepNanos && steps < MAX_STEPS_PER_FRAME) {
+			simulation.run();
+			accumulatorNanos -= stepNanos;
+			steps++;
+		}
+		if (steps == MAX_STEPS_PER_FRAME) {
+			accumulatorNanos = Math.min(accumulatorNanos, stepNanos);
+		}
+		if (running || steps > 0) {
+			renderer.accept(running ? (double) accumulatorNanos / stepNanos : 1.0);
+		}
+	}
+
+	/**
+	 * Sets the number of simulation steps per second.
+	 *
+	 * @param simulationRate the simulation rate, in steps per second
+	 */
+	public void setSimulationRate(double simulationRate) {
+		if (!GameSettings.isValidSimulationRate(simulationRate)) {
+			throw new IllegalArgumentException("Simulation rate must be positive and finite: " + simulationRate);
+		}
+		this.stepNanos = Math.max(1, Math.round(NANOS_PER_SECOND / simulationRate));
+	}
+
+	/**
+	 * Returns the number of simulation steps per second.
+	 *
+	 * @return the simulation rate, in steps per second
+	 */
+	public double getSimulationRate() {
+		return (double) NANOS_PER_SECOND / stepNanos;
+	}
+
+	/**
+	 * Checks whether the loop is running.
+	 *
+	 * @return true if the loop is running, false otherwise
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Returns the time at which the current or last frame started being handled, that is
+	 * the start of the animation phase of the JavaFX pulse that ran it.
+	 *
+	 * @return the {@link System#nanoTime()} at the start of the frame, or 0 before the first frame
+	 */
+	public long getFrameStartNanos() {
+		return frameStartNanos;
+	}
+
+}
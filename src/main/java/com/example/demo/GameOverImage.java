@@ -1,10 +1,7 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.net.URL;
-
 /**
  * The {@code GameOverImage} class extends {@link ImageView} and represents
  * a custom image view for displaying a "Game Over" image in a JavaFX application.
@@ -13,7 +10,9 @@ import java.net.URL;
 public class GameOverImage extends ImageView {
 
 	/** The path to the "Game Over" image resource. */
-	private static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
+	static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
+
+	private static final GameLog LOG = GameLog.get(GameOverImage.class);
 
 	/**
 	 * Constructs a {@code GameOverImage} with specified position and dimensions.
@@ -24,21 +23,21 @@ public class GameOverImage extends ImageView {
 	 * @param height    the height of the image
 	 */
 	public GameOverImage(double xPosition, double yPosition, double width, double height) {
-		setGameOverImage();
+		setGameOverImage(width, height);
 		setPosition(xPosition, yPosition);
 		setDimensions(width, height);
 	}
 
 	/**
-	 * Loads the "Game Over" image from resources and sets it to this image view.
-	 * Logs an error if the image resource cannot be found.
+	 * Loads the "Game Over" image from resources, decoded at its display size, and sets it
+	 * to this image view. Logs a warning if the image resource cannot be found.
+	 *
+	 * @param width  the width of the image
+	 * @param height the height of the image
 	 */
-	private void setGameOverImage() {
-		URL resource = getClass().getResource(IMAGE_NAME);
-		if (resource != null) {
-			setImage(new Image(resource.toExternalForm()));
-		} else {
-			System.err.println("Game Over image not found: " + IMAGE_NAME);
+	private void setGameOverImage(double width, double height) {
+		if (!SpriteAtlas.get().show(this, IMAGE_NAME, width, height)) {
+			LOG.warning("Game Over image not found: {0}", IMAGE_NAME);
 		}
 	}
 
@@ -0,0 +1,323 @@
+package com.example.demo;
+
+import java.util.Locale;
+import java.util.function.DoublePredicate;
+import java.util.logging.Level;
+
+/**
+ * The {@code GameSettings} class holds settings that can be changed when the game is started,
+ * through {@code -Dskybattle.*} system properties, or while it runs. Defaults come from
+ * {@link GameConstants}.
+ */
+public class GameSettings {
+
+    private static final String PROPERTY_PREFIX = "skybattle.";
+
+    private static volatile double simulationRate =
+            readDouble("simulationRate", 1000.0 / GameConstants.MILLISECOND_DELAY, GameSettings::isValidSimulationRate);
+    private static volatile double cullMargin =
+            readDouble("cullMargin", GameConstants.CULL_MARGIN, GameSettings::isNonNegative);
+    private static volatile long spawnIntervalMillis =
+            (long) readDouble("spawnInterval", GameConstants.SPAWN_INTERVAL_MS, GameSettings::isNonNegative);
+    private static volatile double enemyFireRate =
+            readDouble("enemyFireRate", GameConstants.ENEMY_FIRE_RATE, GameSettings::isProbability);
+    private static volatile double bossFireRate =
+            readDouble("bossFireRate", GameConstants.BOSS_FIRE_RATE, GameSettings::isProbability);
+    private static volatile Level logLevel =
+            readLevel("logLevel", Level.INFO);
+    private static volatile boolean soundEnabled =
+            !"false".equalsIgnoreCase(System.getProperty(PROPERTY_PREFIX + "sound"));
+    private static volatile boolean performanceOverlayShown =
+            Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + "overlay"));
+    private static volatile ActorRenderer.Type rendererType =
+            readRendererType("renderer", ActorRenderer.Type.NODE);
+
+    private GameSettings() {
+    }
+
+    /**
+     * Returns the number of simulation steps per second used by new levels. Velocities and
+     * per-step probabilities are tuned for steps of {@link GameConstants#MILLISECOND_DELAY}
+     * milliseconds and scaled to the actual step length, so the rate only changes smoothness.
+     *
+     * @return the simulation rate, in steps per second
+     */
+    public static double getSimulationRate() {
+        return simulationRate;
+    }
+
+    /**
+     * Sets the number of simulation steps per second used by new levels.
+     *
+     * @param rate the simulation rate, in steps per second
+     */
+    public static void setSimulationRate(double rate) {
+        if (!isValidSimulationRate(rate)) {
+            throw new IllegalArgumentException("Simulation rate must be positive and finite: " + rate);
+        }
+        simulationRate = rate;
+    }
+
+    /**
+     * Checks whether a value can be used as a simulation rate.
+     *
+     * @param rate the simulation rate, in steps per second
+     * @return true if the rate is positive and finite, false otherwise
+     */
+    static boolean isValidSimulationRate(double rate) {
+        return rate > 0 && Double.isFinite(rate);
+    }
+
+    /**
+     * Returns how far outside the screen projectiles and bombs may travel before they are culled.
+     *
+     * @return the cull margin, in pixels
+     */
+    public static double getCullMargin() {
+        return cullMargin;
+    }
+
+    /**
+     * Sets how far outside the screen projectiles and bombs may travel before they are culled.
+     *
+     * @param margin the cull margin, in pixels
+     */
+    public static void setCullMargin(double margin) {
+        if (!isNonNegative(margin)) {
+            throw new IllegalArgumentException("Cull margin must be finite and not negative: " + margin);
+        }
+        cullMargin = margin;
+    }
+
+    /**
+     * Returns the minimum time between two enemy spawns. Running levels pick up changes on
+     * their next simulation step.
+     *
+     * @return the spawn interval, in milliseconds
+     */
+    public static long getSpawnIntervalMillis() {
+        return spawnIntervalMillis;
+    }
+
+    /**
+     * Sets the minimum time between two enemy spawns.
+     *
+     * @param millis the spawn interval, in milliseconds
+     */
+    public static void setSpawnIntervalMillis(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Spawn interval must not be negative: " + millis);
+        }
+        spawnIntervalMillis = millis;
+    }
+
+    /**
+     * Returns the probability that an enemy plane fires during a reference simulation step.
+     *
+     * @return the enemy fire rate, between 0 and 1
+     */
+    public static double getEnemyFireRate() {
+        return enemyFireRate;
+    }
+
+    /**
+     * Sets the probability that an enemy plane fires during a reference simulation step.
+     *
+     * @param rate the enemy fire rate, between 0 and 1
+     */
+    public static void setEnemyFireRate(double rate) {
+        enemyFireRate = checkProbability("Enemy fire rate", rate);
+    }
+
+    /**
+     * Returns the probability that the boss fires during a reference simulation step.
+     *
+     * @return the boss fire rate, between 0 and 1
+     */
+    public static double getBossFireRate() {
+        return bossFireRate;
+    }
+
+    /**
+     * Sets the probability that the boss fires during a reference simulation step.
+     *
+     * @param rate the boss fire rate, between 0 and 1
+     */
+    public static void setBossFireRate(double rate) {
+        bossFireRate = checkProbability("Boss fire rate", rate);
+    }
+
+    /**
+     * Checks that a setting is a probability.
+     *
+     * @param name  the name of the setting, used in the error message
+     * @param value the value to check
+     * @return the value
+     */
+    private static double checkProbability(String name, double value) {
+        if (!isProbability(value)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a value is a probability.
+     *
+     * @param value the value to check
+     * @return true if the value is between 0 and 1, false otherwise
+     */
+    private static boolean isProbability(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    /**
+     * Checks whether a value is finite and not negative.
+     *
+     * @param value the value to check
+     * @return true if the value is finite and not negative, false otherwise
+     */
+    private static boolean isNonNegative(double value) {
+        return value >= 0 && Double.isFinite(value);
+    }
+
+    /**
+     * Returns the lowest level of the messages written by {@link GameLog}.
+     *
+     * @return the log level
+     */
+    public static Level getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Sets the lowest level of the messages written by {@link GameLog}.
+     *
+     * @param level the log level
+     */
+    public static void setLogLevel(Level level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Log level must not be null");
+        }
+        logLevel = level;
+    }
+
+    /**
+     * Checks whether sound cues are heard. Sound is on unless the game is started with
+     * {@code -Dskybattle.sound=false}, as headless soak and balance runs are. The audio mixer
+     * still accounts for every cue while sound is off.
+     *
+     * @return true if sound cues are played, false otherwise
+     */
+    public static boolean isSoundEnabled() {
+        return soundEnabled;
+    }
+
+    /**
+     * Turns sound cues on or off.
+     *
+     * @param enabled true to play sound cues, false to keep the game silent
+     */
+    public static void setSoundEnabled(boolean enabled) {
+        soundEnabled = enabled;
+    }
+
+    /**
+     * Checks whether the performance overlay is shown. It is off unless the game is started
+     * with {@code -Dskybattle.overlay=true}, and toggled with F3.
+     *
+     * @return true if the overlay is shown, false otherwise
+     */
+    public static boolean isPerformanceOverlayShown() {
+        return performanceOverlayShown;
+    }
+
+    /**
+     * Shows or hides the performance overlay in the current and later levels.
+     *
+     * @param shown true to show the overlay, false to hide it
+     */
+    public static void setPerformanceOverlayShown(boolean shown) {
+        performanceOverlayShown = shown;
+    }
+
+    /**
+     * Returns the rendering backend used by new levels.
+     *
+     * @return the renderer type
+     */
+    public static ActorRenderer.Type getRendererType() {
+        return rendererType;
+    }
+
+    /**
+     * Sets the rendering backend used by new levels. Levels already running keep theirs.
+     *
+     * @param type the renderer type
+     */
+    public static void setRendererType(ActorRenderer.Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Renderer type must not be null");
+        }
+        rendererType = type;
+    }
+
+    /**
+     * Reads a numeric setting from the system properties.
+     *
+     * @param name         the setting name, without the {@code skybattle.} prefix
+     * @param defaultValue the value to use if the property is missing, malformed or invalid
+     * @param valid        the test a value must pass to be used
+     * @return the setting value
+     */
+    static double readDouble(String name, double defaultValue, DoublePredicate valid) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            return valid.test(parsed) ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads the renderer setting from the system properties, such as {@code -Dskybattle.renderer=canvas}.
+     *
+     * @param name         the setting name, without the {@code skybattle.} prefix
+     * @param defaultValue the value to use if the property is missing or unknown
+     * @return the setting value
+     */
+    static ActorRenderer.Type readRendererType(String name, ActorRenderer.Type defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return ActorRenderer.Type.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a log level setting from the system properties, such as {@code -Dskybattle.logLevel=FINE}.
+     *
+     * @param name         the setting name, without the {@code skybattle.} prefix
+     * @param defaultValue the value to use if the property is missing or unknown
+     * @return the setting value
+     */
+    static Level readLevel(String name, Level defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Level.parse(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -8,26 +9,47 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import com.example.demo.controller.Controller;
 import com.example.demo.controller.CustomException;
 
 /**
  * Class to display the game tutorial.
+ * The tutorial window is built once and reused: its FXML and icon are loaded in the background
+ * by {@link #preload()}, on a loader thread of its own so that it never queues behind the game's
+ * assets, its stage is created on the JavaFX application thread as soon as they are ready, and
+ * later openings only show the hidden stage again. The JavaFX application thread never waits
+ * for the load: a tutorial requested before it finishes opens when it does. The time each
+ * opening takes is recorded.
  */
 public class GameTutorial {
 
-    private static final Logger LOGGER = Logger.getLogger(GameTutorial.class.getName());
+    private static final GameLog LOG = GameLog.get(GameTutorial.class);
     private static final String FXML_PATH = "/com/example/demo/GameTutorial.fxml";
+    private static final String CSS_PATH = "/com/example/demo/tutorial.css";
     private static final String ICON_PATH = "/com/example/demo/images/tutorialfavicon.png";
     private static final String WINDOW_TITLE = "How to Play";
     private static final int WINDOW_WIDTH = 500;
     private static final int WINDOW_HEIGHT = 400;
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tutorial-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final Controller controller;
+    private CompletableFuture<Parent> content;
+    private Stage tutorialStage;
+    private boolean openRequested;
+    private long openStartNanos;
+    private long lastOpenNanos = -1;
+    private long maxOpenNanos;
+    private int openCount;
 
     /**
      * Constructs a new GameTutorial instance with the specified controller.
@@ -39,16 +61,89 @@ public class GameTutorial {
     }
 
     /**
-     * Displays the game tutorial window, pausing the game in the process.
+     * Starts loading the tutorial window in the background, unless it is already loading.
+     * Once loaded, the window is built on the JavaFX application thread, ready to be shown.
+     *
+     * @return a future completing with the root node of the tutorial window
+     */
+    public synchronized CompletableFuture<Parent> preload() {
+        if (content == null) {
+            content = CompletableFuture.supplyAsync(this::loadContent, LOADER);
+            content.whenCompleteAsync(this::onContentLoaded, Platform::runLater);
+        }
+        return content;
+    }
+
+    /**
+     * Displays the game tutorial window, pausing the game in the process. If the window is
+     * still loading, it is shown as soon as it is ready.
      */
     public void showTutorial() {
+        controller.pauseGame();
+        openStartNanos = System.nanoTime();
+        if (tutorialStage != null) {
+            show(tutorialStage);
+        } else {
+            openRequested = true;
+            preload();
+        }
+    }
+
+    /**
+     * Shows the tutorial stage, or brings it to the front if it is already showing.
+     *
+     * @param stage the tutorial stage
+     */
+    private void show(Stage stage) {
+        if (stage.isShowing()) {
+            stage.toFront();
+        } else {
+            stage.show();
+        }
+    }
+
+    /**
+     * Builds the tutorial stage once its content has loaded, and shows it if it was requested
+     * meanwhile. If the load failed, the error is logged, the next request loads it again and
+     * a game paused for the request is resumed. Runs on the JavaFX application thread.
+     *
+     * @param root  the root node of the tutorial window, or null if the load failed
+     * @param error the error that made the load fail, or null
+     */
+    private void onContentLoaded(Parent root, Throwable error) {
+        boolean show = openRequested;
+        openRequested = false;
+        if (error != null) {
+            LOG.log(Level.SEVERE, "Failed to load the tutorial FXML file",
+                    error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            synchronized (this) {
+                content = null;
+            }
+            if (show) {
+                controller.resumeGame();
+            }
+            return;
+        }
+        if (tutorialStage == null) {
+            tutorialStage = createTutorialStage(root);
+        }
+        if (show) {
+            show(tutorialStage);
+        }
+    }
+
+    /**
+     * Loads the FXML file and the icon of the tutorial window.
+     *
+     * @return the root node of the FXML file
+     * @throws CompletionException if the FXML file fails to load
+     */
+    private Parent loadContent() {
+        ImageCache.get(ICON_PATH);
         try {
-            controller.pauseGame();
-            Parent root = loadFXML();
-            Stage tutorialStage = createTutorialStage(root);
-            tutorialStage.show();
+            return loadFXML();
         } catch (CustomException e) {
-            LOGGER.log(Level.SEVERE, "Failed to load the tutorial FXML file", e);
+            throw new CompletionException(e);
         }
     }
 
@@ -68,21 +163,33 @@ public class GameTutorial {
     }
 
     /**
-     * Creates and configures the tutorial stage.
+     * Returns the tutorial stage, without waiting for it to be built.
+     *
+     * @return the tutorial stage, or null if it has not been built yet
+     */
+    Stage getStage() {
+        return tutorialStage;
+    }
+
+    /**
+     * Creates and configures the tutorial stage, applying its stylesheet right away so that
+     * the first opening does not have to.
      *
      * @param root  the root node of the tutorial window
      * @return the tutorial stage
      */
     private Stage createTutorialStage(Parent root) {
-        Stage tutorialStage = new Stage();
-        tutorialStage.initModality(Modality.APPLICATION_MODAL);
-        tutorialStage.setTitle(WINDOW_TITLE);
+        Stage stage = new Stage();
+        stage.initModality(Modality.APPLICATION_MODAL);
+        stage.setTitle(WINDOW_TITLE);
         Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-        scene.getStylesheets().add(getClass().getResource("/com/example/demo/tutorial.css").toExternalForm());
-        tutorialStage.setScene(scene);
-        setStageIcon(tutorialStage);
-        tutorialStage.setOnCloseRequest(event -> controller.resumeGame());
-        return tutorialStage;
+        scene.getStylesheets().add(getClass().getResource(CSS_PATH).toExternalForm());
+        root.applyCss();
+        stage.setScene(scene);
+        setStageIcon(stage);
+        stage.setOnShown(event -> recordOpenLatency());
+        stage.setOnCloseRequest(event -> controller.resumeGame());
+        return stage;
     }
 
     /**
@@ -91,11 +198,49 @@ public class GameTutorial {
      * @param stage  the stage to set the icon for
      */
     private void setStageIcon(Stage stage) {
-        InputStream iconStream = getClass().getResourceAsStream(ICON_PATH);
-        if (iconStream != null) {
-            stage.getIcons().add(new Image(iconStream));
+        Image icon = ImageCache.get(ICON_PATH);
+        if (icon != null) {
+            stage.getIcons().add(icon);
         } else {
-            LOGGER.log(Level.WARNING, "Icon resource not found: " + ICON_PATH);
+            LOG.warning("Icon resource not found: {0}", ICON_PATH);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Records how long the opening that just completed took.
+     */
+    private void recordOpenLatency() {
+        lastOpenNanos = System.nanoTime() - openStartNanos;
+        maxOpenNanos = Math.max(maxOpenNanos, lastOpenNanos);
+        openCount++;
+        long openNanos = lastOpenNanos;
+        LOG.log(Level.FINE, () -> "Tutorial opened in " + openNanos / 1_000_000.0 + " ms");
+    }
+
+    /**
+     * Returns the number of times the tutorial has been opened.
+     *
+     * @return the number of openings
+     */
+    public int getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * Returns how long the last opening took, from the click to the window being shown.
+     *
+     * @return the latency in nanoseconds, or -1 if the tutorial has not been opened
+     */
+    public long getLastOpenNanos() {
+        return lastOpenNanos;
+    }
+
+    /**
+     * Returns how long the slowest opening took.
+     *
+     * @return the latency in nanoseconds, or 0 if the tutorial has not been opened
+     */
+    public long getMaxOpenNanos() {
+        return maxOpenNanos;
+    }
+}
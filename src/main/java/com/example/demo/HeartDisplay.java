@@ -1,24 +1,29 @@
 package com.example.demo;
 
+import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
-import java.net.URL;
 
 /**
  * The {@code HeartDisplay} class represents a display of hearts in the game
  * to represent lives or health.
+ * <p>
+ * The heart nodes are created once and share a single {@link Image} at the height the
+ * hearts are displayed at, taken from the sprite atlas when the game was built with one.
+ * Changing the health only toggles which of them are shown, and an update that does not
+ * change the number of hearts does not touch the scene graph at all.
  */
 public class HeartDisplay {
 
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
-	private static final int HEART_HEIGHT = 30;
-	private static final int INDEX_OF_FIRST_ITEM = 0;
+	static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	static final int HEART_HEIGHT = 30;
 
 	private final HBox container;
 	private final double containerXPosition;
 	private final double containerYPosition;
 	private final int numberOfHeartsToDisplay;
+	private int visibleHearts;
 
 	/**
 	 * Constructs a new {@code HeartDisplay} with specified coordinates and number of hearts.
@@ -49,55 +54,94 @@ public class HeartDisplay {
 	 * Throws an {@link IllegalArgumentException} if a heart image resource cannot be found.
 	 */
 	private void initializeHearts() {
-		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = createHeartImageView();
-			if (heart != null) {
-				container.getChildren().add(heart);
-			} else {
-				throw new IllegalArgumentException("Heart image not found: " + HEART_IMAGE_NAME);
-			}
+		ImageView firstHeart = createHeartImageView();
+		if (firstHeart == null) {
+			throw new IllegalArgumentException("Heart image not found: " + HEART_IMAGE_NAME);
+		}
+		if (numberOfHeartsToDisplay > 0) {
+			container.getChildren().add(firstHeart);
+			addHearts(numberOfHeartsToDisplay - 1);
+		}
+		visibleHearts = numberOfHeartsToDisplay;
+	}
+
+	/**
+	 * Adds visible heart nodes to the end of the container.
+	 *
+	 * @param count the number of hearts to add
+	 */
+	private void addHearts(int count) {
+		for (int i = 0; i < count; i++) {
+			container.getChildren().add(createHeartImageView());
 		}
 	}
 
 	/**
-	 * Creates an {@link ImageView} for the heart image.
+	 * Creates an {@link ImageView} for the shared heart image.
 	 *
 	 * @return the {@link ImageView} for the heart image or null if the image resource is not found
 	 */
 	private ImageView createHeartImageView() {
-		URL resource = getClass().getResource(HEART_IMAGE_NAME);
-		if (resource != null) {
-			Image heartImage = new Image(resource.toExternalForm());
-			ImageView heart = new ImageView(heartImage);
-			heart.setFitHeight(HEART_HEIGHT);
-			heart.setPreserveRatio(true);
-			return heart;
+		ImageView heart = new ImageView();
+		if (!SpriteAtlas.get().show(heart, HEART_IMAGE_NAME, 0, HEART_HEIGHT)) {
+			return null;
 		}
-		return null;
+		heart.setFitHeight(HEART_HEIGHT);
+		heart.setPreserveRatio(true);
+		return heart;
 	}
 
 	/**
 	 * Removes a heart if no hearts are left, nothing happens.
 	 */
 	public void removeHeart() {
-		if (!container.getChildren().isEmpty()) {
-			container.getChildren().remove(INDEX_OF_FIRST_ITEM);
+		if (visibleHearts > 0) {
+			setHeartVisible(visibleHearts - 1, false);
+			visibleHearts--;
 		}
 	}
 
 	/**
-	 * Updates the heart based on the current health.
+	 * Updates the heart based on the current health. Heart nodes are added only if the health
+	 * exceeds every heart created so far, and nothing happens if the health is unchanged.
 	 *
 	 * @param health The current health value.
 	 */
 	public void update(int health) {
-		container.getChildren().clear();
-		for (int i = 0; i < health; i++) {
-			ImageView heart = createHeartImageView();
-			if (heart != null) {
-				container.getChildren().add(heart);
-			}
+		int hearts = Math.max(health, 0);
+		if (hearts == visibleHearts) {
+			return;
+		}
+		int created = container.getChildren().size();
+		if (hearts > created) {
+			addHearts(hearts - created);
 		}
+		for (int i = Math.min(visibleHearts, hearts); i < Math.max(visibleHearts, hearts); i++) {
+			setHeartVisible(i, i < hearts);
+		}
+		visibleHearts = hearts;
+	}
+
+	/**
+	 * Shows or hides a heart node. Hidden hearts are left out of the layout, so the visible
+	 * ones stay packed to the left.
+	 *
+	 * @param index   the index of the heart node
+	 * @param visible whether the heart is shown
+	 */
+	private void setHeartVisible(int index, boolean visible) {
+		Node heart = container.getChildren().get(index);
+		heart.setVisible(visible);
+		heart.setManaged(visible);
+	}
+
+	/**
+	 * Returns the number of hearts currently shown.
+	 *
+	 * @return the number of visible hearts
+	 */
+	public int getVisibleHeartCount() {
+		return visibleHearts;
 	}
 
 	/**
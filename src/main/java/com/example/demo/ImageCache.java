@@ -0,0 +1,225 @@
+package com.example.demo;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.scene.image.Image;
+
+/**
+ * The {@code ImageCache} class shares decoded images across the whole game. Images are keyed
+ * by resource path and requested size, so every actor, HUD element and background showing the
+ * same sprite at the same size uses one {@link Image} and one pixel buffer, and a sprite is
+ * decoded once rather than on every spawn.
+ * <p>
+ * Entries are evicted in least-recently-used order once their decoded size exceeds the memory
+ * budget. Evicted images stay valid for the nodes still showing them; the next request simply
+ * decodes the image again. Decode, hit, eviction and memory statistics are kept for tuning.
+ * <p>
+ * The cache lock is only held to look up, insert and account for entries. An image is decoded
+ * outside it by the first thread to request it, and other threads requesting the same image
+ * meanwhile wait for that decode, so the FX thread never waits behind the decode of another
+ * image, such as one being preloaded.
+ */
+public class ImageCache {
+
+	private static final int BYTES_PER_PIXEL = 4;
+
+	private static final Map<String, CompletableFuture<Image>> CACHE = new LinkedHashMap<>(64, 0.75f, true);
+	private static long budgetBytes = GameConstants.IMAGE_CACHE_BUDGET_BYTES;
+	private static long usedBytes;
+	private static long decodeCount;
+	private static long hitCount;
+	private static long evictionCount;
+
+	private ImageCache() {
+	}
+
+	/**
+	 * Returns the shared image of a resource at its natural size.
+	 *
+	 * @param path the absolute resource path of the image
+	 * @return the shared image, or null if the resource does not exist
+	 */
+	public static Image get(String path) {
+		return get(path, 0, 0);
+	}
+
+	/**
+	 * Returns the shared image of a resource decoded to fit the requested size, with its ratio
+	 * preserved. A width or height of 0 leaves that dimension unconstrained.
+	 *
+	 * @param path            the absolute resource path of the image
+	 * @param requestedWidth  the width to decode the image to, or 0
+	 * @param requestedHeight the height to decode the image to, or 0
+	 * @return the shared image, or null if the resource does not exist
+	 */
+	public static Image get(String path, double requestedWidth, double requestedHeight) {
+		String key = AssetManifest.ImageVariant.keyOf(path, requestedWidth, requestedHeight);
+		CompletableFuture<Image> entry;
+		boolean decoding = false;
+		synchronized (ImageCache.class) {
+			entry = CACHE.get(key);
+			if (entry != null) {
+				hitCount++;
+			} else {
+				entry = new CompletableFuture<>();
+				CACHE.put(key, entry);
+				decoding = true;
+			}
+		}
+		if (decoding) {
+			decode(key, path, requestedWidth, requestedHeight, entry);
+		}
+		return entry.join();
+	}
+
+	/**
+	 * Decodes an image outside the cache lock, then accounts for it and completes its entry.
+	 * Missing and broken images are not kept, so that they are looked up again next time.
+	 *
+	 * @param key             the cache key of the image
+	 * @param path            the absolute resource path of the image
+	 * @param requestedWidth  the width to decode the image to, or 0
+	 * @param requestedHeight the height to decode the image to, or 0
+	 * @param entry           the entry inserted for the image
+	 */
+	private static void decode(String key, String path, double requestedWidth, double requestedHeight,
+							   CompletableFuture<Image> entry) {
+		Image image;
+		try {
+			URL resource = ImageCache.class.getResource(path);
+			image = resource == null ? null
+					: new Image(resource.toExternalForm(), requestedWidth, requestedHeight, true, true, false);
+		} catch (RuntimeException e) {
+			synchronized (ImageCache.class) {
+				CACHE.remove(key, entry);
+			}
+			entry.completeExceptionally(e);
+			throw e;
+		}
+		synchronized (ImageCache.class) {
+			if (image != null) {
+				decodeCount++;
+			}
+			if (image == null || image.isError()) {
+				CACHE.remove(key, entry);
+			} else if (CACHE.get(key) == entry) {
+				usedBytes += sizeOf(image);
+				evictToBudget(entry);
+			}
+			entry.complete(image);
+		}
+	}
+
+	/**
+	 * Evicts least-recently-used images until the cache fits its budget. The image just added
+	 * is never evicted, even if it alone exceeds the budget, and neither are images still
+	 * being decoded.
+	 *
+	 * @param newest the entry just added to the cache
+	 */
+	private static void evictToBudget(CompletableFuture<Image> newest) {
+		Iterator<CompletableFuture<Image>> iterator = CACHE.values().iterator();
+		while (usedBytes > budgetBytes && iterator.hasNext()) {
+			CompletableFuture<Image> eldest = iterator.next();
+			if (eldest == newest || !eldest.isDone()) {
+				continue;
+			}
+			iterator.remove();
+			usedBytes -= sizeOf(eldest.join());
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * Returns the size of an image's decoded pixel buffer.
+	 *
+	 * @param image the image
+	 * @return the size, in bytes
+	 */
+	private static long sizeOf(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	/**
+	 * Sets the memory budget of the cache, evicting images if it is now exceeded.
+	 *
+	 * @param bytes the budget, in bytes of decoded pixels
+	 */
+	public static synchronized void setBudgetBytes(long bytes) {
+		if (bytes < 0) {
+			throw new IllegalArgumentException("Budget must not be negative: " + bytes);
+		}
+		budgetBytes = bytes;
+		evictToBudget(null);
+	}
+
+	/**
+	 * Returns the memory budget of the cache.
+	 *
+	 * @return the budget, in bytes of decoded pixels
+	 */
+	public static synchronized long getBudgetBytes() {
+		return budgetBytes;
+	}
+
+	/**
+	 * Returns the decoded size of the images currently cached.
+	 *
+	 * @return the memory in use, in bytes
+	 */
+	public static synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	/**
+	 * Returns the number of images decoded since the cache was last cleared.
+	 *
+	 * @return the number of decodes
+	 */
+	public static synchronized long getDecodeCount() {
+		return decodeCount;
+	}
+
+	/**
+	 * Returns the number of requests served from the cache since it was last cleared.
+	 *
+	 * @return the number of hits
+	 */
+	public static synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of images evicted since the cache was last cleared.
+	 *
+	 * @return the number of evictions
+	 */
+	public static synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the number of images currently cached.
+	 *
+	 * @return the number of cached images
+	 */
+	public static synchronized int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * Removes every image from the cache and resets its statistics.
+	 */
+	public static synchronized void clear() {
+		CACHE.clear();
+		usedBytes = 0;
+		decodeCount = 0;
+		hitCount = 0;
+		evictionCount = 0;
+	}
+
+}
@@ -0,0 +1,174 @@
+package com.example.demo;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class records durations into a fixed set of log-linear buckets,
+ * so that recording is a few atomic additions on preallocated counters and never allocates.
+ * Each power of two is split into {@value #SUB_BUCKETS} buckets, which bounds the error of a
+ * reported percentile to about 6% of the value. Durations below {@value #SUB_BUCKETS} nanoseconds
+ * are recorded exactly; durations beyond the last bucket are counted in it. The maximum is kept
+ * exactly.
+ * <p>
+ * Durations are normally recorded by the thread running the level, while monitoring threads
+ * read the histogram and may reset it, for instance over JMX. Every counter is updated
+ * atomically, so no recording is lost or torn; a reader or a reset racing a recording may see
+ * that recording in some counters and not yet in others, which is enough for monitoring.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration, in nanoseconds; negative durations are recorded as 0
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucketOf(value));
+		count.increment();
+		totalNanos.add(value);
+		if (value > maxNanos.get()) {
+			maxNanos.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	/**
+	 * Returns the bucket a duration falls into.
+	 *
+	 * @param nanos the duration, in nanoseconds
+	 * @return the index of the bucket
+	 */
+	static int bucketOf(long nanos) {
+		if (nanos < SUB_BUCKETS) {
+			return (int) nanos;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKET_COUNT - 1;
+		}
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Returns the largest duration that falls into a bucket.
+	 *
+	 * @param bucket the index of the bucket
+	 * @return the upper bound of the bucket, in nanoseconds
+	 */
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return (1L << exponent) + (subBucket + 1) * width - 1;
+	}
+
+	/**
+	 * Returns the duration below which the given share of the recorded durations fall.
+	 * The result is the upper bound of the bucket holding that share, capped by the maximum.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the duration, in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+		}
+		long total = count.sum();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += counts.get(bucket);
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(bucket), maxNanos.get());
+			}
+		}
+		return maxNanos.get();
+	}
+
+	/**
+	 * Returns the median duration.
+	 *
+	 * @return the 50th percentile, in nanoseconds
+	 */
+	public long getP50() {
+		return getPercentile(50);
+	}
+
+	/**
+	 * Returns the 99th percentile duration.
+	 *
+	 * @return the 99th percentile, in nanoseconds
+	 */
+	public long getP99() {
+		return getPercentile(99);
+	}
+
+	/**
+	 * Returns the longest duration recorded.
+	 *
+	 * @return the maximum, in nanoseconds
+	 */
+	public long getMax() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * Returns the mean duration.
+	 *
+	 * @return the mean, in nanoseconds, or 0 if nothing was recorded
+	 */
+	public double getMean() {
+		long total = count.sum();
+		return total == 0 ? 0 : (double) totalNanos.sum() / total;
+	}
+
+	/**
+	 * Returns the sum of the durations recorded.
+	 *
+	 * @return the total, in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * Returns the number of durations recorded.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Forgets every recorded duration.
+	 */
+	public void reset() {
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			counts.set(bucket, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+
+}
@@ -21,13 +21,14 @@ public class LevelOne extends LevelParent {
 	 */
 	public LevelOne(double screenHeight, double screenWidth, HeartDisplay heartDisplay, Controller controller) {
 		super(GameConstants.BACKGROUND_IMAGE_ONE, screenHeight, screenWidth, GameConstants.PLAYER_INITIAL_HEALTH, heartDisplay, controller);
-
+		EnemyPlane.preloadSounds();
 	}
 
 	/**
 	 * Checks the game's current state to determine if the game is over, either
 	 * by destruction of the User's character or by reaching the kill target, and
-	 * calls appropriate methods to handle game progression or loss.
+	 * calls appropriate methods to handle game progression or loss. Once the user
+	 * is close to the kill target, Level Two is announced so it can be prepared.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -35,6 +36,8 @@ public class LevelOne extends LevelParent {
 			loseGame();
 		} else if (isKillTargetReached()) {
 			advanceToLevelTwo();
+		} else if (getUser().getNumberOfKills() >= GameConstants.KILLS_BEFORE_PREPARING_LEVEL_TWO) {
+			announceLevelNearingEnd(GameConstants.LEVEL_TWO);
 		}
 	}
 
@@ -101,19 +104,22 @@ public class LevelOne extends LevelParent {
 	 * @return {@code true} if a new enemy can be spawned; otherwise {@code false}.
 	 */
 	private boolean canSpawnNewEnemy() {
-		long currentTime = System.currentTimeMillis();
+		long currentTime = getSimulationTime();
 		return (getCurrentNumberOfEnemies() < GameConstants.TOTAL_ENEMIES) &&
 				(isTimeForNewSpawn(currentTime));
 	}
 
 	/**
 	 * Determines if the required time interval has passed to allow for a new enemy spawn.
+	 * The first enemy spawns as soon as the level starts, whatever the spawn interval.
 	 *
-	 * @param currentTime The current system time in milliseconds.
+	 * @param currentTime The current simulation time in milliseconds.
 	 * @return {@code true} if the spawn interval has elapsed; otherwise {@code false}.
 	 */
 	private boolean isTimeForNewSpawn(long currentTime) {
-		return (currentTime - getLastSpawnTime()) >= GameConstants.SPAWN_INTERVAL_MS;
+		long lastSpawnTime = getLastSpawnTime();
+		return lastSpawnTime == NEVER_SPAWNED
+				|| (currentTime - lastSpawnTime) >= GameSettings.getSpawnIntervalMillis();
 	}
 
 	/**
@@ -136,10 +142,10 @@ public class LevelOne extends LevelParent {
 	}
 
 	/**
-	 * Updates the record of the last enemy spawn time to the current system time.
+	 * Updates the record of the last enemy spawn time to the current simulation time.
 	 */
 	private void updateLastSpawnTime() {
-		setLastSpawnTime(System.currentTimeMillis());
+		setLastSpawnTime(getSimulationTime());
 	}
 
 }
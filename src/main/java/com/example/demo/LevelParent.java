@@ -5,47 +5,66 @@ import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.List;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
-import javafx.util.Duration;
 
 import com.example.demo.controller.Controller;
 
 /**
  * The {@code LevelParent} class is an abstract class that represents a level in the game.
  * It contains common functionalities and properties that are shared by all levels, such as
- * the game screen dimensions, the user's character, and the timeline.
+ * the game screen dimensions, the user's character, and the game loop.
  * It also provides methods for updating the game scene, handling collisions, and managing
  * the game state.
  */
 public abstract class LevelParent {
 
+	private static final GameLog LOG = GameLog.get(LevelParent.class);
+	private static final GameLog KILL_LOG = LOG.rateLimited(GameConstants.HOT_PATH_LOG_INTERVAL_MS);
+
+	/**
+	 * The last spawn time of a level that has not spawned an enemy yet.
+	 */
+	protected static final long NEVER_SPAWNED = Long.MIN_VALUE;
+
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
 	private final Group root;
-	private final Timeline timeline;
+	private final GameLoop gameLoop;
+	private final LevelScheduler scheduler;
 	private final UserPlane user;
 	private final Scene scene;
 	private final ImageView background;
 	private final LevelView levelView;
 	private final PropertyChangeSupport support;
 	private final Controller controller;
+	private final ActorRenderer renderer;
+	private final PhaseTimings timings;
 
 	private final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
-	private final List<ActiveActorDestructible> bombs = new ArrayList<>();
 
+	private final ActorBounds friendlyBounds = new ActorBounds();
+	private final ActorBounds enemyBounds = new ActorBounds();
+	private final ActorBounds userProjectileBounds = new ActorBounds();
+	private final ActorBounds enemyProjectileBounds = new ActorBounds();
+	private final SpatialHashGrid collisionGrid;
+	private int userBoundsIndex;
+	private boolean sweptCollisions;
+	private boolean disposed;
+	private boolean nearingEndAnnounced;
 	private final SimpleIntegerProperty currentNumberOfEnemies;
+	private long simulationTime;
+	private double stepScale;
+	private long culledActorCount;
 	private long lastSpawnTime;
 
 	/**
@@ -67,7 +86,9 @@ public abstract class LevelParent {
 
 		this.root = new Group();
 		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.gameLoop = new GameLoop(GameSettings.getSimulationRate(), this::updateScene, this::renderFrame);
+		this.stepScale = computeStepScale();
+		this.scheduler = new LevelScheduler();
 		this.user = new UserPlane(playerInitialHealth, heartDisplay);
 		this.background = new ImageView();
 
@@ -75,14 +96,18 @@ public abstract class LevelParent {
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
+		this.collisionGrid = new SpatialHashGrid(GameConstants.COLLISION_CELL_SIZE);
+		this.sweptCollisions = GameConstants.SWEPT_COLLISIONS;
 
 		this.levelView = instantiateLevelView();
 		this.support = new PropertyChangeSupport(this);
 		this.currentNumberOfEnemies = new SimpleIntegerProperty(0);
-		this.lastSpawnTime = 0;
+		this.simulationTime = 0;
+		this.lastSpawnTime = NEVER_SPAWNED;
 
 		initializeBackground(backgroundImageName);
-		initializeTimeline();
+		this.renderer = createRenderer(GameSettings.getRendererType());
+		this.timings = PhaseTimings.forLevel(getClass());
 		friendlyUnits.add(user);
 	}
 
@@ -109,15 +134,16 @@ public abstract class LevelParent {
 	public Scene initializeScene() {
 		initializeFriendlyUnits();
 		levelView.showHeartDisplay();
+		levelView.showPerformanceOverlay();
 		return scene;
 	}
 
 	/**
-	 * Starts the game by setting the focus on the background and playing the timeline.
+	 * Starts the game by setting the focus on the background and starting the game loop.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
+		gameLoop.start();
 	}
 
 	/**
@@ -126,11 +152,28 @@ public abstract class LevelParent {
 	 * @param levelName the name of the next level
 	 */
 	public void goToNextLevel(String levelName) {
+		if (disposed) {
+			return;
+		}
 		enemyUnits.clear();
 		root.getChildren().removeIf(node -> node instanceof EnemyPlane);
 		support.firePropertyChange("levelChange", null, levelName);
 	}
 
+	/**
+	 * Tells the listeners, once per level, that the level is close to its exit condition and
+	 * which level is expected to follow, so that it can be prepared before it is needed.
+	 *
+	 * @param levelName the name of the level expected to follow
+	 */
+	protected void announceLevelNearingEnd(String levelName) {
+		if (disposed || nearingEndAnnounced) {
+			return;
+		}
+		nearingEndAnnounced = true;
+		support.firePropertyChange("levelNearingEnd", null, levelName);
+	}
+
 	/**
 	 * Adds a property change listener to the level.
 	 *
@@ -149,15 +192,6 @@ public abstract class LevelParent {
 		support.removePropertyChangeListener(listener);
 	}
 
-	/**
-	 * Initializes the timeline for the game loop.
-	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(GameConstants.MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
-	}
-
 	/**
 	 * Initializes the background image for the game scene.
 	 *
@@ -165,14 +199,29 @@ public abstract class LevelParent {
 	 */
 	private void initializeBackground(String backgroundImageName) {
 		if (backgroundImageName != null) {
-			var resource = getClass().getResource(backgroundImageName);
-			if (resource != null) {
-				background.setImage(new Image(resource.toExternalForm()));
+			Image image = ImageCache.get(backgroundImageName);
+			if (image != null) {
+				background.setImage(image);
 			}
 		}
 		setupBackground();
 	}
 
+	/**
+	 * Creates the rendering backend of the level. A canvas is placed right above the background,
+	 * so the HUD added by the level view is still drawn over the actors.
+	 *
+	 * @param type the renderer type
+	 * @return the renderer
+	 */
+	private ActorRenderer createRenderer(ActorRenderer.Type type) {
+		if (type == ActorRenderer.Type.CANVAS) {
+			int index = root.getChildren().indexOf(background) + 1;
+			return new CanvasActorRenderer(root, index, screenWidth, screenHeight);
+		}
+		return new NodeActorRenderer(root);
+	}
+
 	/**
 	 * Sets up the background image for the game scene.
 	 */
@@ -187,29 +236,167 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Updates the game scene by spawning enemy units, updating actors, generating enemy fire,
-	 * handling collisions, handling penetrated enemies, removing destroyed actors, updating the level view,
-	 * and checking if the game is over.
+	 * Advances the level by one simulation step by spawning enemy units, updating actors,
+	 * generating enemy fire, publishing actor bounds, running scheduled tasks, handling collisions,
+	 * handling penetrated enemies, culling off-screen projectiles, removing destroyed actors, and
+	 * checking if the game is over.
+	 * Scheduled tasks run after the bounds are published, so they can test against the user.
+	 * The step only works on the actors' models; nodes are brought in line by {@link #renderFrame(double)}.
+	 * Each phase and the whole step are timed into the level's {@link PhaseTimings}.
 	 */
 	private void updateScene() {
+		if (disposed) {
+			return;
+		}
+		long stepStart = System.nanoTime();
+		ActiveActor.setStepScale(stepScale);
+		AudioMixer.get().beginTick();
 		spawnEnemyUnits();
+		long phaseStart = timings.record(PhaseTimings.Phase.SPAWN, stepStart);
 		updateActors();
+		phaseStart = timings.record(PhaseTimings.Phase.UPDATE, phaseStart);
 		generateEnemyFire();
+		phaseStart = timings.record(PhaseTimings.Phase.ENEMY_FIRE, phaseStart);
+		publishActorBounds();
+		scheduler.tick();
+		phaseStart = timings.record(PhaseTimings.Phase.SCHEDULED_TASKS, phaseStart);
 		handleCollisions();
+		phaseStart = timings.record(PhaseTimings.Phase.COLLISIONS, phaseStart);
 		handlePenetratedEnemies();
+		phaseStart = timings.record(PhaseTimings.Phase.PENETRATION, phaseStart);
+		cullOffscreenProjectiles();
 		removeAllDestroyedActors();
-		updateLevelView();
+		phaseStart = timings.record(PhaseTimings.Phase.REMOVAL, phaseStart);
 		checkIfGameOver();
+		timings.record(PhaseTimings.Phase.GAME_OVER, phaseStart);
+		timings.record(PhaseTimings.Phase.STEP, stepStart);
+		simulationTime += Math.round(1000 / gameLoop.getSimulationRate());
+	}
+
+	/**
+	 * Runs the simulation for a number of steps without rendering, as fast as possible.
+	 * Used for soak and balance runs; call {@link #renderFrame(double)} afterwards to bring
+	 * the scene in line with the simulated state. Levels are built from JavaFX nodes, so the
+	 * toolkit must be running and this must be called on the FX thread; start the game with
+	 * {@code -Dskybattle.sound=false} where no audio device is available.
+	 *
+	 * @param steps the number of simulation steps to run
+	 */
+	public void simulate(int steps) {
+		for (int i = 0; i < steps && !disposed; i++) {
+			updateScene();
+		}
+	}
+
+	/**
+	 * Returns the simulated time elapsed in this level. It advances by one step per
+	 * simulation step, whether the level is driven by the game loop or by {@link #simulate(int)}.
+	 *
+	 * @return the simulated time, in milliseconds
+	 */
+	protected long getSimulationTime() {
+		return simulationTime;
 	}
 
 	/**
 	 * Updates the actors in the game scene.
 	 */
 	private void updateActors() {
-		friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-		enemyUnits.forEach(ActiveActorDestructible::updateActor);
-		userProjectiles.forEach(ActiveActorDestructible::updateActor);
-		enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+		updateActors(friendlyUnits);
+		updateActors(enemyUnits);
+		updateActors(userProjectiles);
+		updateActors(enemyProjectiles);
+	}
+
+	/**
+	 * Updates a list of actors, saving each actor's position first so that its movement
+	 * during the tick is known to the collision checks.
+	 *
+	 * @param actors the actors to update
+	 */
+	private void updateActors(List<ActiveActorDestructible> actors) {
+		for (ActiveActorDestructible actor : actors) {
+			actor.savePreviousPosition();
+			actor.updateActor();
+		}
+	}
+
+	/**
+	 * Brings the scene in line with the simulated state. Every actor's node is placed between
+	 * its previous and current simulated positions and handed to the level's {@link ActorRenderer},
+	 * which shows actors added by the simulation and drops those it removed, and the level
+	 * view is updated. Rendering and the view update are timed into the level's {@link PhaseTimings}.
+	 *
+	 * @param alpha the fraction of a simulation step elapsed since the last step
+	 */
+	public void renderFrame(double alpha) {
+		if (disposed) {
+			return;
+		}
+		long phaseStart = System.nanoTime();
+		renderer.beginFrame();
+		renderActors(friendlyUnits, alpha);
+		renderActors(enemyUnits, alpha);
+		renderActors(userProjectiles, alpha);
+		renderActors(enemyProjectiles, alpha);
+		renderAdditionalActors(alpha);
+		renderer.endFrame();
+		phaseStart = timings.record(PhaseTimings.Phase.RENDER, phaseStart);
+		updateLevelView();
+		timings.record(PhaseTimings.Phase.VIEW, phaseStart);
+	}
+
+	/**
+	 * Renders a list of actors through the level's renderer.
+	 *
+	 * @param actors the actors to render
+	 * @param alpha  the fraction of a simulation step elapsed since the last step
+	 */
+	private void renderActors(List<ActiveActorDestructible> actors, double alpha) {
+		for (ActiveActorDestructible actor : actors) {
+			actor.syncView(alpha);
+			renderer.render(actor);
+		}
+	}
+
+	/**
+	 * Renders actors owned by a subclass rather than by the actor lists of this class,
+	 * through {@link #getRenderer()}.
+	 *
+	 * @param alpha the fraction of a simulation step elapsed since the last step
+	 */
+	protected void renderAdditionalActors(double alpha) {
+	}
+
+	/**
+	 * Publishes the bounding boxes of all actors into the bounds caches read by the
+	 * collision and penetration checks of the current tick.
+	 */
+	private void publishActorBounds() {
+		userBoundsIndex = -1;
+		friendlyBounds.clear();
+		for (ActiveActorDestructible actor : friendlyUnits) {
+			int index = actor.publishBounds(friendlyBounds);
+			if (actor == user) {
+				userBoundsIndex = index;
+			}
+		}
+		publishActorBounds(enemyUnits, enemyBounds);
+		publishActorBounds(userProjectiles, userProjectileBounds);
+		publishActorBounds(enemyProjectiles, enemyProjectileBounds);
+	}
+
+	/**
+	 * Publishes the bounding boxes of a list of actors, in list order, into a bounds cache.
+	 *
+	 * @param actors the actors to publish
+	 * @param bounds the cache to publish into
+	 */
+	private void publishActorBounds(List<ActiveActorDestructible> actors, ActorBounds bounds) {
+		bounds.clear();
+		for (ActiveActorDestructible actor : actors) {
+			actor.publishBounds(bounds);
+		}
 	}
 
 	/**
@@ -226,7 +413,6 @@ public abstract class LevelParent {
 	 */
 	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
 			enemyProjectiles.add(projectile);
 		}
 	}
@@ -234,7 +420,7 @@ public abstract class LevelParent {
 	/**
 	 * Returns the last spawn time of an enemy unit.
 	 *
-	 * @return the last spawn time of an enemy unit
+	 * @return the last spawn time of an enemy unit, or {@link #NEVER_SPAWNED} before the first spawn
 	 */
 	protected long getLastSpawnTime() {
 		return lastSpawnTime;
@@ -270,6 +456,7 @@ public abstract class LevelParent {
 			case LEFT -> user.moveLeft();
 			case RIGHT -> user.moveRight();
 			case SPACE -> fireProjectile();
+			case F3 -> levelView.togglePerformanceOverlay();
 		}
 	}
 
@@ -289,30 +476,53 @@ public abstract class LevelParent {
 	 */
 	private void fireProjectile() {
 		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
 		userProjectiles.add(projectile);
 	}
 
 	/**
-	 * Handles collisions between actors in the game scene.
+	 * Handles collisions between actors in the game scene. The enemy units are hashed into
+	 * the collision grid once and queried by both the friendly units and the user projectiles;
+	 * the grid is then rebuilt from the friendly units for the enemy projectiles.
 	 */
 	private void handleCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
-		handleCollisions(userProjectiles, enemyUnits);
-		handleCollisions(enemyProjectiles, friendlyUnits);
-		handleCollisions(List.of(user), bombs);
+		buildCollisionGrid(enemyBounds);
+		handleCollisions("friendlyUnits/enemyUnits", friendlyUnits, friendlyBounds, enemyUnits, enemyBounds);
+		handleCollisions("userProjectiles/enemyUnits", userProjectiles, userProjectileBounds, enemyUnits, enemyBounds);
+		buildCollisionGrid(friendlyBounds);
+		handleCollisions("enemyProjectiles/friendlyUnits", enemyProjectiles, enemyProjectileBounds, friendlyUnits, friendlyBounds);
 	}
 
 	/**
 	 * Handles collisions between two lists of actors.
+	 * The second list must already be hashed into the collision grid, so that each actor of
+	 * the first list is only tested against the actors in its neighbouring cells. All boxes are read
+	 * from the bounds caches published for the current tick. The checks are recorded as a
+	 * {@link CollisionEvent} when Flight Recorder is on.
 	 *
+	 * @param groups  the names of the two lists, for the recorded event
 	 * @param actors1 the first list of actors
+	 * @param bounds1 the cached bounds of the first list
 	 * @param actors2 the second list of actors
+	 * @param bounds2 the cached bounds of the second list
 	 */
-	private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor1 : actors1) {
-			for (ActiveActorDestructible actor2 : actors2) {
-				if (actor1.getBoundsInParent().intersects(actor2.getBoundsInParent())) {
+	private void handleCollisions(String groups, List<ActiveActorDestructible> actors1, ActorBounds bounds1,
+								  List<ActiveActorDestructible> actors2, ActorBounds bounds2) {
+		if (bounds1.size() == 0 || bounds2.size() == 0) {
+			return;
+		}
+		CollisionEvent event = new CollisionEvent();
+		event.begin();
+		int totalCandidates = 0;
+		int collisions = 0;
+		for (int index1 = 0; index1 < bounds1.size(); index1++) {
+			int candidates = queryCollisionGrid(bounds1, index1);
+			totalCandidates += candidates;
+			for (int i = 0; i < candidates; i++) {
+				int index2 = collisionGrid.getResult(i);
+				ActiveActorDestructible actor1 = actors1.get(index1);
+				ActiveActorDestructible actor2 = actors2.get(index2);
+				if (collides(bounds1, index1, actor1.getCollisionMask(), bounds2, index2, actor2.getCollisionMask())) {
+					collisions++;
 					actor1.takeDamage();
 					actor2.takeDamage();
 
@@ -324,15 +534,172 @@ public abstract class LevelParent {
 				}
 			}
 		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.level = timings.getLevelName();
+			event.actorType = groups;
+			event.actors = bounds1.size();
+			event.targets = bounds2.size();
+			event.candidates = totalCandidates;
+			event.collisions = collisions;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Checks whether two actors collide during the current tick. In swept mode, the boxes are
+	 * moved from their previous to their current positions and the masks are compared at
+	 * several points of the contact interval; otherwise both tests use the current positions.
+	 *
+	 * @param bounds1 the cache holding the first actor's box
+	 * @param index1  the index of the first actor's box
+	 * @param mask1   the collision mask of the first actor
+	 * @param bounds2 the cache holding the second actor's box
+	 * @param index2  the index of the second actor's box
+	 * @param mask2   the collision mask of the second actor
+	 * @return true if the actors collide, false otherwise
+	 */
+	private boolean collides(ActorBounds bounds1, int index1, CollisionMask mask1,
+							 ActorBounds bounds2, int index2, CollisionMask mask2) {
+		if (!sweptCollisions) {
+			return bounds1.intersects(index1, bounds2, index2)
+					&& masksOverlap(mask1, bounds1, index1, mask2, bounds2, index2, 1);
+		}
+		if (!bounds1.sweptIntersects(index1, bounds2, index2)) {
+			return false;
+		}
+		double entryTime = bounds1.getSweepEntryTime();
+		double exitTime = bounds1.getSweepExitTime();
+		double relativeX = bounds1.getDisplacementX(index1) - bounds2.getDisplacementX(index2);
+		double relativeY = bounds1.getDisplacementY(index1) - bounds2.getDisplacementY(index2);
+		double distance = Math.hypot(relativeX, relativeY) * (exitTime - entryTime);
+		int steps = (int) Math.min(GameConstants.MAX_SWEEP_SAMPLES, Math.ceil(distance / GameConstants.SWEEP_SAMPLE_SPACING));
+		for (int step = 0; step <= steps; step++) {
+			double time = steps == 0 ? entryTime : entryTime + (exitTime - entryTime) * step / steps;
+			if (masksOverlap(mask1, bounds1, index1, mask2, bounds2, index2, time)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Runs the pixel-accurate narrowphase for two boxes that are known to touch at the given
+	 * point of the tick. If either actor has no collision mask, the box test alone counts as a hit.
+	 *
+	 * @param mask1   the collision mask of the first actor
+	 * @param bounds1 the cache holding the first actor's box
+	 * @param index1  the index of the first actor's box
+	 * @param mask2   the collision mask of the second actor
+	 * @param bounds2 the cache holding the second actor's box
+	 * @param index2  the index of the second actor's box
+	 * @param time    the fraction of the tick to place the masks at, 1 being the current position
+	 * @return true if the actors' opaque pixels overlap, false otherwise
+	 */
+	private boolean masksOverlap(CollisionMask mask1, ActorBounds bounds1, int index1,
+								 CollisionMask mask2, ActorBounds bounds2, int index2, double time) {
+		if (mask1 == null || mask2 == null) {
+			return true;
+		}
+		double rewind = 1 - time;
+		return CollisionMask.overlaps(mask1,
+				bounds1.getMinX(index1) - bounds1.getDisplacementX(index1) * rewind,
+				bounds1.getMinY(index1) - bounds1.getDisplacementY(index1) * rewind,
+				mask2,
+				bounds2.getMinX(index2) - bounds2.getDisplacementX(index2) * rewind,
+				bounds2.getMinY(index2) - bounds2.getDisplacementY(index2) * rewind);
+	}
+
+	/**
+	 * Queries the collision grid with an actor's box, or with the area it swept during the
+	 * tick when swept collisions are enabled.
+	 *
+	 * @param bounds the cache holding the actor's box
+	 * @param index  the index of the actor's box
+	 * @return the number of candidates found
+	 */
+	private int queryCollisionGrid(ActorBounds bounds, int index) {
+		if (sweptCollisions) {
+			return collisionGrid.query(bounds.getSweptMinX(index), bounds.getSweptMinY(index), bounds.getSweptMaxX(index), bounds.getSweptMaxY(index));
+		}
+		return collisionGrid.query(bounds.getMinX(index), bounds.getMinY(index), bounds.getMaxX(index), bounds.getMaxY(index));
+	}
+
+	/**
+	 * Rebuilds the collision grid from cached bounds, using each box's index as its id.
+	 *
+	 * @param bounds the cached bounds to insert into the grid
+	 */
+	private void buildCollisionGrid(ActorBounds bounds) {
+		collisionGrid.clear();
+		for (int i = 0; i < bounds.size(); i++) {
+			if (sweptCollisions) {
+				collisionGrid.insert(i, bounds.getSweptMinX(i), bounds.getSweptMinY(i), bounds.getSweptMaxX(i), bounds.getSweptMaxY(i));
+			} else {
+				collisionGrid.insert(i, bounds.getMinX(i), bounds.getMinY(i), bounds.getMaxX(i), bounds.getMaxY(i));
+			}
+		}
 	}
 
 	/**
 	 * Handles enemies that have penetrated defenses.
 	 */
 	private void handlePenetratedEnemies() {
-		enemyUnits.stream()
-				.filter(this::enemyHasPenetratedDefenses)
-				.forEach(ActiveActorDestructible::takeDamage);
+		for (int i = 0; i < enemyBounds.size(); i++) {
+			if (enemyHasPenetratedDefenses(i)) {
+				enemyUnits.get(i).takeDamage();
+			}
+		}
+	}
+
+	/**
+	 * Reclaims projectiles that missed and left the screen, so they are no longer updated,
+	 * collision-tested or kept in the scene.
+	 */
+	private void cullOffscreenProjectiles() {
+		cullOffscreenActors(userProjectiles, userProjectileBounds);
+		cullOffscreenActors(enemyProjectiles, enemyProjectileBounds);
+	}
+
+	/**
+	 * Destroys every actor of a list whose cached box lies outside the viewport margin.
+	 * Destroyed actors are removed with the others at the end of the tick.
+	 *
+	 * @param actors the actors to cull
+	 * @param bounds the cached bounds of the actors
+	 */
+	private void cullOffscreenActors(List<ActiveActorDestructible> actors, ActorBounds bounds) {
+		for (int i = 0; i < bounds.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isDestroyed() && isOutsideViewport(bounds.getMinX(i), bounds.getMinY(i), bounds.getMaxX(i), bounds.getMaxY(i))) {
+				actor.destroy();
+				culledActorCount++;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a box lies entirely outside the screen extended by the cull margin
+	 * from {@link GameSettings#getCullMargin()}.
+	 *
+	 * @param minX the minimum x coordinate of the box
+	 * @param minY the minimum y coordinate of the box
+	 * @param maxX the maximum x coordinate of the box
+	 * @param maxY the maximum y coordinate of the box
+	 * @return true if the box is outside the viewport margin, false otherwise
+	 */
+	protected boolean isOutsideViewport(double minX, double minY, double maxX, double maxY) {
+		double margin = GameSettings.getCullMargin();
+		return maxX < -margin || minX > screenWidth + margin || maxY < -margin || minY > screenHeight + margin;
+	}
+
+	/**
+	 * Returns the number of projectiles reclaimed after leaving the screen in this level.
+	 *
+	 * @return the number of culled projectiles
+	 */
+	public long getCulledActorCount() {
+		return culledActorCount;
 	}
 
 	/**
@@ -347,13 +714,22 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Removes destroyed actors from a list of actors.
+	 * Removes destroyed actors from a list of actors. Their sprites are handed to the renderer,
+	 * which takes them off the screen when the next frame is rendered. Removals are recorded
+	 * as an {@link ActorRemovalEvent} when Flight Recorder is on.
 	 *
 	 * @param actors the list of actors to remove destroyed actors from
 	 */
 	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
+		ActorRemovalEvent event = new ActorRemovalEvent();
+		event.begin();
 		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(ActiveActorDestructible::isDestroyed).toList();
-		root.getChildren().removeAll(destroyedActors);
+		for (ActiveActorDestructible destroyedActor : destroyedActors) {
+			renderer.remove(destroyedActor);
+			if (destroyedActor instanceof Projectile) {
+				((Projectile) destroyedActor).release();
+			}
+		}
 
 		if (actors == enemyUnits) {
 			for (ActiveActorDestructible destroyedActor : destroyedActors) {
@@ -364,6 +740,14 @@ public abstract class LevelParent {
 			}
 		}
 		actors.removeAll(destroyedActors);
+		event.end();
+		if (!destroyedActors.isEmpty() && event.shouldCommit()) {
+			event.level = timings.getLevelName();
+			event.actorType = destroyedActors.get(0).getClass().getSimpleName();
+			event.removed = destroyedActors.size();
+			event.remaining = actors.size();
+			event.commit();
+		}
 		updateNumberOfEnemies();
 		checkIfGameOver();
 	}
@@ -375,9 +759,9 @@ public abstract class LevelParent {
 		int kills = getCurrentNumberOfEnemies() - enemyUnits.size();
 		for (int i = 0; i < kills; i++) {
 			getUser().incrementKillCount();
-			System.out.println("Kill count: " + getUser().getNumberOfKills());
+			KILL_LOG.fine("Kill count: {0}", getUser().getNumberOfKills());
 			if (getUser().getNumberOfKills() >= GameConstants.KILLS_TO_LEVEL_TWO) {
-				System.out.println("Advancing to the next level");
+				LOG.info("Advancing to the next level");
 				goToNextLevel(GameConstants.LEVEL_TWO);
 				break;
 			}
@@ -385,20 +769,46 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Updates the level view based on the game state.
+	 * Updates the level view based on the game state. Called once per rendered frame.
 	 */
 	protected void updateLevelView() {
 		levelView.removeHearts(user.getHealth());
+		levelView.updatePerformanceOverlay(this);
 	}
 
 	/**
-	 * Determines whether an enemy has penetrated defenses.
+	 * Determines whether an enemy has penetrated defenses, that is, whether the left edge of
+	 * its cached box has crossed the left edge of the screen.
 	 *
-	 * @param enemy the enemy to check
+	 * @param index the index of the enemy's box in the enemy bounds cache
 	 * @return {@code true} if the enemy has penetrated defenses; otherwise {@code false}
 	 */
-	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	private boolean enemyHasPenetratedDefenses(int index) {
+		return enemyBounds.getMinX(index) < 0;
+	}
+
+	/**
+	 * Checks whether an actor cached by a subclass collides with the user's box published for
+	 * the current tick, using the same box, sweep and mask tests as {@link #handleCollisions()}.
+	 *
+	 * @param bounds the cache holding the box to check
+	 * @param index  the index of the box
+	 * @param mask   the collision mask of the checked actor, or null to test boxes only
+	 * @return true if the actor collides with the user, false otherwise
+	 */
+	protected boolean intersectsUser(ActorBounds bounds, int index, CollisionMask mask) {
+		return userBoundsIndex >= 0 && collides(friendlyBounds, userBoundsIndex, user.getCollisionMask(), bounds, index, mask);
+	}
+
+	/**
+	 * Enables or disables swept collision detection. When enabled, actors are tested along
+	 * the path they moved during the tick, so fast projectiles cannot tunnel through thin
+	 * targets even at low simulation rates.
+	 *
+	 * @param sweptCollisions true to test along movement paths, false to test current positions only
+	 */
+	public void setSweptCollisions(boolean sweptCollisions) {
+		this.sweptCollisions = sweptCollisions;
 	}
 
 	/*
@@ -412,7 +822,7 @@ public abstract class LevelParent {
 	 * Handles the win condition of the game.
 	 */
 	protected void winGame() {
-		timeline.stop();
+		gameLoop.stop();
 		levelView.showWinImage();
 		getUser().handleWin(levelView.getWinImage());
 	}
@@ -421,7 +831,7 @@ public abstract class LevelParent {
 	 * Handles the lose condition of the game.
 	 */
 	protected void loseGame() {
-		timeline.stop();
+		gameLoop.stop();
 		levelView.showGameOverImage();
 		getUser().handleGameOver();
 	}
@@ -430,9 +840,9 @@ public abstract class LevelParent {
 	 * Displays how to play the game.
 	 */
 	private void howToPlay() {
-		var resource = getClass().getResource(GameConstants.GAME_TUTORIAL);
-		if (resource != null) {
-			ImageView tutorialImage = new ImageView(new Image(resource.toExternalForm()));
+		Image image = ImageCache.get(GameConstants.GAME_TUTORIAL);
+		if (image != null) {
+			ImageView tutorialImage = new ImageView(image);
 			tutorialImage.setFitWidth(50);
 			tutorialImage.setFitHeight(50);
 			tutorialImage.setLayoutX(screenWidth - 110);
@@ -446,23 +856,101 @@ public abstract class LevelParent {
 	 * Shows the game tutorial.
 	 */
 	private void showTutorial() {
-		System.out.println("Tutorial clicked! Show the tutorial here.");
-		GameTutorial tutorialScreen = new GameTutorial(controller);
-		tutorialScreen.showTutorial();
+		controller.getTutorial().showTutorial();
+	}
+
+	/**
+	 * Releases the level once it is no longer shown. The game loop and every scheduled task
+	 * are stopped, sound effects are stopped, all actors and nodes are detached from the scene,
+	 * and all listeners are removed, so a finished level neither ticks nor keeps the next
+	 * level's controller alive. A disposed level cannot be restarted; calling this again does nothing.
+	 */
+	public void dispose() {
+		release(true);
+	}
+
+	/**
+	 * Releases a level that was built ahead of time but never shown, like {@link #dispose()}
+	 * but without stopping any sound. Sound cues are shared by every level, so stopping them
+	 * here would cut off the sounds of the level being played.
+	 */
+	public void discard() {
+		release(false);
+	}
+
+	/**
+	 * Stops the level and detaches everything it holds. Does nothing if the level has already
+	 * been released. Levels holding actors or tasks of their own release them here too.
+	 *
+	 * @param stopSounds true to stop the sound effects of the level's actors, false to leave them playing
+	 */
+	protected void release(boolean stopSounds) {
+		if (disposed) {
+			return;
+		}
+		disposed = true;
+		gameLoop.stop();
+		scheduler.clear();
+		disposeActors(friendlyUnits, stopSounds);
+		disposeActors(enemyUnits, stopSounds);
+		disposeActors(userProjectiles, stopSounds);
+		disposeActors(enemyProjectiles, stopSounds);
+		if (stopSounds) {
+			user.stopSounds();
+		}
+		renderer.dispose();
+		levelView.getPerformanceOverlay().dispose();
+		for (PropertyChangeListener listener : support.getPropertyChangeListeners()) {
+			support.removePropertyChangeListener(listener);
+		}
+		background.setOnKeyPressed(null);
+		background.setOnKeyReleased(null);
+		root.getChildren().clear();
+	}
+
+	/**
+	 * Optionally stops the sounds of a list of actors, returns projectiles to their pools and
+	 * removes the actors from the level.
+	 *
+	 * @param actors     the actors to dispose of
+	 * @param stopSounds true to stop the actors' sound effects
+	 */
+	private void disposeActors(List<ActiveActorDestructible> actors, boolean stopSounds) {
+		for (ActiveActorDestructible actor : actors) {
+			if (stopSounds) {
+				actor.stopSounds();
+			}
+			if (actor instanceof Projectile) {
+				((Projectile) actor).release();
+			}
+		}
+		actors.clear();
+	}
+
+	/**
+	 * Checks whether the level has been disposed.
+	 *
+	 * @return true if the level has been disposed, false otherwise
+	 */
+	public boolean isDisposed() {
+		return disposed;
 	}
 
 	/**
 	 * Pauses the game.
 	 */
 	public void pause() {
-		timeline.pause();
+		gameLoop.stop();
 	}
 
 	/**
 	 * Resumes the game.
 	 */
 	public void resume() {
-		timeline.play();
+		if (disposed) {
+			return;
+		}
+		gameLoop.start();
 	}
 
 	/**
@@ -474,6 +962,24 @@ public abstract class LevelParent {
 		return user;
 	}
 
+	/**
+	 * Returns the rendering backend of the level.
+	 *
+	 * @return the renderer
+	 */
+	protected ActorRenderer getRenderer() {
+		return renderer;
+	}
+
+	/**
+	 * Returns the phase timings of the level, shared with every other instance of its class.
+	 *
+	 * @return the phase timings
+	 */
+	public PhaseTimings getTimings() {
+		return timings;
+	}
+
 	/**
 	 * Gets the root group of the game scene.
 	 *
@@ -493,12 +999,54 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Gets the timeline of the game loop.
+	 * Gets the game loop.
 	 *
-	 * @return the timeline
+	 * @return the game loop
 	 */
-	protected Timeline getTimeline() {
-		return timeline;
+	protected GameLoop getGameLoop() {
+		return gameLoop;
+	}
+
+	/**
+	 * Gets the scheduler running the timed tasks of this level inside its simulation step.
+	 *
+	 * @return the level scheduler
+	 */
+	protected LevelScheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * Converts a duration to a number of simulation steps at the current simulation rate.
+	 *
+	 * @param millis the duration, in milliseconds
+	 * @return the number of steps, at least one
+	 */
+	protected int toTicks(long millis) {
+		return (int) Math.max(1, Math.round(millis * gameLoop.getSimulationRate() / 1000));
+	}
+
+	/**
+	 * Sets the number of simulation steps per second of this level, independently of the
+	 * display refresh rate. Moves and per-step probabilities are scaled to the step length, so
+	 * the rate changes how smoothly the level runs but not how fast.
+	 *
+	 * @param simulationRate the simulation rate, in steps per second
+	 */
+	public void setSimulationRate(double simulationRate) {
+		gameLoop.setSimulationRate(simulationRate);
+		stepScale = computeStepScale();
+	}
+
+	/**
+	 * Computes the length of this level's simulation step relative to the reference step of
+	 * {@link GameConstants#MILLISECOND_DELAY} milliseconds, by which actors scale their moves
+	 * and per-step probabilities.
+	 *
+	 * @return the step scale, 1 at the reference simulation rate
+	 */
+	private double computeStepScale() {
+		return 1000 / gameLoop.getSimulationRate() / GameConstants.MILLISECOND_DELAY;
 	}
 
 	/**
@@ -511,16 +1059,51 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Adds an enemy unit to the game scene.
+	 * Returns the number of live enemy units. Safe to call from monitoring threads, which
+	 * may see the count of a previous step.
+	 *
+	 * @return the number of enemy units
+	 */
+	public int getEnemyCount() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Returns the number of live user projectiles. Safe to call from monitoring threads, which
+	 * may see the count of a previous step.
+	 *
+	 * @return the number of user projectiles
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Returns the number of live enemy projectiles. Safe to call from monitoring threads, which
+	 * may see the count of a previous step.
+	 *
+	 * @return the number of enemy projectiles
+	 */
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
+	}
+
+	/**
+	 * Adds an enemy unit to the level. Its node is attached to the scene when the next frame
+	 * is rendered. The spawn is recorded as an {@link EnemySpawnEvent} when Flight Recorder is on.
 	 *
 	 * @param enemy the enemy unit to add
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		if (!enemyUnits.contains(enemy)) {
 			enemyUnits.add(enemy);
-		}
-		if (!root.getChildren().contains(enemy)) {
-			root.getChildren().add(enemy);
+			EnemySpawnEvent event = new EnemySpawnEvent();
+			if (event.shouldCommit()) {
+				event.level = timings.getLevelName();
+				event.actorType = enemy.getClass().getSimpleName();
+				event.enemyCount = enemyUnits.size();
+				event.commit();
+			}
 		}
 	}
 
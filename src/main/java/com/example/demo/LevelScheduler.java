@@ -0,0 +1,208 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code LevelScheduler} class runs delayed and periodic tasks of a level from inside
+ * its simulation step. Time is measured in ticks, one per call to {@link #tick()}, so tasks
+ * run in the same ordered pass as the rest of the level and pause whenever the level does.
+ * <p>
+ * Tasks are kept in a hashed timing wheel: a task due in {@code d} ticks is placed in slot
+ * {@code (current + d) % slots} with {@code d / slots} remaining rounds, so scheduling and
+ * advancing the wheel do not depend on the number of pending tasks. Tasks due on the same
+ * tick run in the order they were scheduled.
+ */
+public class LevelScheduler {
+
+	private static final int DEFAULT_SLOT_COUNT = 64;
+
+	private final List<List<ScheduledTask>> slots;
+	private final List<ScheduledTask> dueTasks;
+	private long currentTick;
+
+	/**
+	 * Constructs a new {@code LevelScheduler} with the default number of wheel slots.
+	 */
+	public LevelScheduler() {
+		this(DEFAULT_SLOT_COUNT);
+	}
+
+	/**
+	 * Constructs a new {@code LevelScheduler} with the specified number of wheel slots.
+	 *
+	 * @param slotCount the number of slots in the timing wheel
+	 */
+	public LevelScheduler(int slotCount) {
+		if (slotCount <= 0) {
+			throw new IllegalArgumentException("Slot count must be positive: " + slotCount);
+		}
+		this.slots = new ArrayList<>(slotCount);
+		for (int i = 0; i < slotCount; i++) {
+			slots.add(new ArrayList<>());
+		}
+		this.dueTasks = new ArrayList<>();
+		this.currentTick = 0;
+	}
+
+	/**
+	 * Schedules a task to run once after the given number of ticks.
+	 *
+	 * @param task       the task to run
+	 * @param delayTicks the number of ticks to wait, at least one
+	 * @return a handle that can be used to cancel the task
+	 */
+	public ScheduledTask schedule(Runnable task, int delayTicks) {
+		ScheduledTask scheduledTask = new ScheduledTask(task, 0);
+		insert(scheduledTask, delayTicks);
+		return scheduledTask;
+	}
+
+	/**
+	 * Schedules a task to run repeatedly, first after the initial delay and then once every period.
+	 *
+	 * @param task         the task to run
+	 * @param initialDelay the number of ticks before the first run, at least one
+	 * @param periodTicks  the number of ticks between runs, at least one
+	 * @return a handle that can be used to cancel the task
+	 */
+	public ScheduledTask scheduleAtFixedRate(Runnable task, int initialDelay, int periodTicks) {
+		if (periodTicks <= 0) {
+			throw new IllegalArgumentException("Period must be positive: " + periodTicks);
+		}
+		ScheduledTask scheduledTask = new ScheduledTask(task, periodTicks);
+		insert(scheduledTask, initialDelay);
+		return scheduledTask;
+	}
+
+	/**
+	 * Advances the wheel by one tick and runs every task due on that tick. Periodic tasks are
+	 * rescheduled before the next task runs, and tasks scheduled by a running task are due on
+	 * a later tick at the earliest.
+	 */
+	public void tick() {
+		currentTick++;
+		List<ScheduledTask> slot = slots.get(slotOf(currentTick));
+		dueTasks.clear();
+		for (int i = 0; i < slot.size(); i++) {
+			ScheduledTask task = slot.get(i);
+			if (task.cancelled) {
+				slot.remove(i--);
+			} else if (task.remainingRounds > 0) {
+				task.remainingRounds--;
+			} else {
+				slot.remove(i--);
+				dueTasks.add(task);
+			}
+		}
+		for (ScheduledTask task : dueTasks) {
+			if (task.cancelled) {
+				continue;
+			}
+			if (task.periodTicks > 0) {
+				insert(task, task.periodTicks);
+			}
+			task.action.run();
+		}
+		dueTasks.clear();
+	}
+
+	/**
+	 * Cancels and removes every pending task.
+	 */
+	public void clear() {
+		for (List<ScheduledTask> slot : slots) {
+			for (ScheduledTask task : slot) {
+				task.cancel();
+			}
+			slot.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of ticks the wheel has advanced.
+	 *
+	 * @return the current tick
+	 */
+	public long getCurrentTick() {
+		return currentTick;
+	}
+
+	/**
+	 * Returns the number of tasks waiting in the wheel.
+	 *
+	 * @return the number of pending tasks
+	 */
+	public int getPendingTaskCount() {
+		int count = 0;
+		for (List<ScheduledTask> slot : slots) {
+			for (ScheduledTask task : slot) {
+				if (!task.cancelled) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Places a task in the slot of the tick it is due on.
+	 *
+	 * @param task       the task to place
+	 * @param delayTicks the number of ticks until the task is due
+	 */
+	private void insert(ScheduledTask task, int delayTicks) {
+		int delay = Math.max(1, delayTicks);
+		task.remainingRounds = (delay - 1) / slots.size();
+		slots.get(slotOf(currentTick + delay)).add(task);
+	}
+
+	/**
+	 * Returns the slot of the given tick.
+	 *
+	 * @param tick the tick
+	 * @return the index of the slot
+	 */
+	private int slotOf(long tick) {
+		return (int) (tick % slots.size());
+	}
+
+	/**
+	 * A task waiting in a {@link LevelScheduler}.
+	 */
+	public static class ScheduledTask {
+
+		private final Runnable action;
+		private final int periodTicks;
+		private int remainingRounds;
+		private boolean cancelled;
+
+		/**
+		 * Constructs a new {@code ScheduledTask}.
+		 *
+		 * @param action      the task to run
+		 * @param periodTicks the number of ticks between runs, or 0 to run once
+		 */
+		private ScheduledTask(Runnable action, int periodTicks) {
+			this.action = action;
+			this.periodTicks = periodTicks;
+		}
+
+		/**
+		 * Cancels the task. A cancelled task never runs again.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/**
+		 * Checks whether the task has been cancelled.
+		 *
+		 * @return true if the task has been cancelled, false otherwise
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+	}
+
+}
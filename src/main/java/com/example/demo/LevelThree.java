@@ -1,9 +1,6 @@
 package com.example.demo;
 
 import com.example.demo.controller.Controller;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,11 +10,15 @@ import java.util.List;
  */
 public class LevelThree extends LevelParent {
 
+    private static final long BOMB_GENERATION_INTERVAL_MS = 1000;
+
     private final Boss boss;
     private final LevelViewLevelThree levelView;
     private final List<Bomb> bombs = new ArrayList<>();
-    private Timeline bombGenerationTimeline;
-    private Timeline bombMovementTimeline;
+    private final ActorBounds bombBounds = new ActorBounds();
+    private long culledBombCount;
+    private LevelScheduler.ScheduledTask bombGenerationTask;
+    private LevelScheduler.ScheduledTask bombMovementTask;
 
     /**
      * Constructs a new LevelThree instance.
@@ -83,15 +84,13 @@ public class LevelThree extends LevelParent {
     }
 
     /**
-     * Starts the game by requesting focus for the background and starting the game-related timelines.
-     * This includes starting the bomb generation timeline and bomb movement timeline.
+     * Starts the game by requesting focus for the background and starting the game loop,
+     * which also drives the bomb generation and bomb movement tasks.
      */
     @Override
     public void startGame() {
         requestFocusForBackground();
-        startTimeline();
-        startBombGenerationTimeline();
-        startBombMovementTimeline();
+        startGameLoop();
     }
 
     /**
@@ -161,69 +160,83 @@ public class LevelThree extends LevelParent {
     }
 
     /**
-     * Starts the main game timeline.
+     * Starts the main game loop.
      */
-    private void startTimeline() {
-        getTimeline().play();
+    private void startGameLoop() {
+        getGameLoop().start();
     }
 
     /**
-     * Initializes the bomb generation and movement timelines.
+     * Schedules bomb generation and bomb movement on the level scheduler, so that both run
+     * inside the level's simulation step.
      */
     private void initializeBombs() {
-        bombGenerationTimeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> generateBomb()));
-        bombGenerationTimeline.setCycleCount(Timeline.INDEFINITE);
-
-        bombMovementTimeline = new Timeline(new KeyFrame(Duration.millis(50), e -> moveBombs()));
-        bombMovementTimeline.setCycleCount(Timeline.INDEFINITE);
-
-        getUser().setBombTimeline(bombMovementTimeline);
+        bombGenerationTask = getScheduler().scheduleAtFixedRate(this::generateBomb,
+                toTicks(BOMB_GENERATION_INTERVAL_MS), toTicks(BOMB_GENERATION_INTERVAL_MS));
+        bombMovementTask = getScheduler().scheduleAtFixedRate(this::moveBombs,
+                toTicks(GameConstants.MILLISECOND_DELAY), toTicks(GameConstants.MILLISECOND_DELAY));
     }
 
     /**
-     * Starts the bomb generation timeline.
+     * Generates a new bomb at a random x-position at the top of the screen.
+     * The bomb's node is attached to the scene when the next frame is rendered.
      */
-    private void startBombGenerationTimeline() {
-        bombGenerationTimeline.play();
+    private void generateBomb() {
+        double xPosition = Math.random() * getScreenWidth();
+        bombs.add(new Bomb(xPosition, 0));
     }
 
     /**
-     * Starts the bomb movement timeline.
+     * Moves the bombs down the screen, publishes their bounds, checks for collisions with the player
+     * and culls the bombs that fell off the screen.
      */
-    private void startBombMovementTimeline() {
-        bombMovementTimeline.play();
+    private void moveBombs() {
+        bombBounds.clear();
+        for (Bomb bomb : bombs) {
+            bomb.moveDown();
+            bomb.getModel().publishBounds(bombBounds);
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            checkBombCollision(i);
+        }
+        cullOffscreenBombs();
     }
 
     /**
-     * Generates a new bomb at a random x-position at the top of the screen.
+     * Reclaims the bombs that fell past the viewport margin. The renderer takes them off the
+     * screen when the next frame is rendered.
      */
-    private void generateBomb() {
-        double xPosition = Math.random() * getScreenWidth();
-        Bomb newBomb = new Bomb(xPosition, 0);
-        bombs.add(newBomb);
-        getRoot().getChildren().add(newBomb);
+    private void cullOffscreenBombs() {
+        for (int i = bombs.size() - 1; i >= 0; i--) {
+            ActorModel model = bombs.get(i).getModel();
+            if (isOutsideViewport(model.getX(), model.getY(), model.getX() + model.getWidth(), model.getY() + model.getHeight())) {
+                Bomb bomb = bombs.remove(i);
+                getRenderer().remove(bomb);
+                culledBombCount++;
+            }
+        }
     }
 
     /**
-     * Moves the bombs down the screen and checks for collisions with the player.
+     * Returns the number of bombs reclaimed after falling off the screen.
+     *
+     * @return the number of culled bombs
      */
-    private void moveBombs() {
-        for (Bomb bomb : bombs) {
-            bomb.moveDown();
-            checkBombCollision(bomb);
-        }
+    public long getCulledBombCount() {
+        return culledBombCount;
     }
 
     /**
-     * Checks if a bomb has collided with the player.
+     * Checks if a bomb has collided with the player, using the bomb's cached bounds and the
+     * player's bounds published for the current tick, refined by both collision masks.
      *
-     * @param bomb the bomb to check for collision
+     * @param index the index of the bomb to check for collision
      */
-    private void checkBombCollision(Bomb bomb) {
-        if (bomb.getBoundsInParent().intersects(getUser().getBoundsInParent())) {
+    private void checkBombCollision(int index) {
+        if (intersectsUser(bombBounds, index, bombs.get(index).getCollisionMask())) {
             getUser().takeDamage();
             getUser().handleHit();
-            resetBombPosition(bomb);
+            resetBombPosition(bombs.get(index));
         }
     }
 
@@ -233,29 +246,61 @@ public class LevelThree extends LevelParent {
      * @param bomb the bomb to reset
      */
     private void resetBombPosition(Bomb bomb) {
-        bomb.setLayoutX(Math.random() * getScreenWidth());
-        bomb.setLayoutY(0);
+        bomb.getModel().teleport(Math.random() * getScreenWidth(), 0);
+    }
+
+    /**
+     * Renders the bombs through the level's renderer.
+     *
+     * @param alpha the fraction of a simulation step elapsed since the last step
+     */
+    @Override
+    protected void renderAdditionalActors(double alpha) {
+        for (Bomb bomb : bombs) {
+            bomb.syncView(alpha);
+            getRenderer().render(bomb);
+        }
     }
 
     /**
-     * Stops the bomb elements by stopping the bomb generation and movement timelines.
+     * Stops the bomb elements by cancelling the bomb generation and movement tasks.
      */
     private void stopBombElements() {
-        if (bombGenerationTimeline != null) {
-            bombGenerationTimeline.stop();
+        if (bombGenerationTask != null) {
+            bombGenerationTask.cancel();
         }
-        if (bombMovementTimeline != null) {
-            bombMovementTimeline.stop();
+        if (bombMovementTask != null) {
+            bombMovementTask.cancel();
         }
     }
 
+    /**
+     * Releases the level, also stopping the boss and the bombs, which are not part of the
+     * actor lists of {@link LevelParent}.
+     *
+     * @param stopSounds true to stop the sound effects of the level's actors, false to leave them playing
+     */
+    @Override
+    protected void release(boolean stopSounds) {
+        super.release(stopSounds);
+        stopBombElements();
+        if (stopSounds) {
+            boss.stopSounds();
+            for (Bomb bomb : bombs) {
+                bomb.stopBombDropSound();
+            }
+        }
+        bombs.clear();
+        bombBounds.clear();
+        levelView.getShieldImage().translateXProperty().unbind();
+        levelView.getShieldImage().translateYProperty().unbind();
+    }
+
     /*
      * Stops the fireball sound effect.
      */
     public void stopFireballSound() {
-        if (boss.getFireballSound() != null) {
-            boss.getFireballSound().stop();
-        }
+        boss.stopSounds();
     }
 
 }
@@ -0,0 +1,31 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a transition from one level to the next, from the disposal
+ * of the old level to the start of the new one.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("The game moved to another level")
+@StackTrace(false)
+public class LevelTransitionEvent extends Event {
+
+	@Label("From Level")
+	public String fromLevel;
+
+	@Label("To Level")
+	public String toLevel;
+
+	@Label("Prepared")
+	@Description("Whether the new level had been built ahead of the transition")
+	public boolean prepared;
+
+}
@@ -37,6 +37,7 @@ public class LevelTwo extends LevelParent {
 
 	/**
 	 * Checks if the game is over by determining if the user or the boss is destroyed.
+	 * Once the boss is low on health, level three is announced so it can be prepared.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -46,6 +47,9 @@ public class LevelTwo extends LevelParent {
 		else if (boss.isDestroyed()) {
 			advanceToLevelThree();
 		}
+		else if (boss.getHealth() <= GameConstants.BOSS_HEALTH_BEFORE_PREPARING_LEVEL_THREE) {
+			announceLevelNearingEnd(GameConstants.LEVEL_THREE);
+		}
 	}
 
 	/**
@@ -76,12 +80,12 @@ public class LevelTwo extends LevelParent {
 	}
 
 	/**
-	 * Starts the game by requesting focus for the background and starting the timeline.
+	 * Starts the game by requesting focus for the background and starting the game loop.
 	 */
 	@Override
 	public void startGame() {
 		requestFocusForBackground();
-		startTimeline();
+		startGameLoop();
 	}
 
 	/**
@@ -98,6 +102,22 @@ public class LevelTwo extends LevelParent {
 		levelView.updateBossHealth(boss.getHealth() / 10.0);
 	}
 
+	/**
+	 * Releases the level, also stopping the boss, which is no longer in the enemy list once
+	 * the level has been left.
+	 *
+	 * @param stopSounds true to stop the sound effects of the level's actors, false to leave them playing
+	 */
+	@Override
+	protected void release(boolean stopSounds) {
+		super.release(stopSounds);
+		if (stopSounds) {
+			boss.stopSounds();
+		}
+		levelView.getShieldImage().translateXProperty().unbind();
+		levelView.getShieldImage().translateYProperty().unbind();
+	}
+
 	/**
 	 * Binds the shield image's position to the boss's coordinates.
 	 */
@@ -149,10 +169,10 @@ public class LevelTwo extends LevelParent {
 	}
 
 	/**
-	 * Starts the game's timeline.
+	 * Starts the game loop.
 	 */
-	private void startTimeline() {
-		getTimeline().play();
+	private void startGameLoop() {
+		getGameLoop().start();
 	}
 }
 
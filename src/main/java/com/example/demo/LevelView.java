@@ -13,6 +13,7 @@ public class LevelView {
 	private final WinImage winImage;
 	private final GameOverImage gameOverImage;
 	private final HeartDisplay heartDisplay;
+	private final PerformanceOverlay performanceOverlay;
 
 	/**
 	 * Constructs a new {@code LevelView} instance with specified initial settings.
@@ -25,6 +26,7 @@ public class LevelView {
 		this.heartDisplay = setUpHeartDisplay(heartsToDisplay);
 		this.winImage = createWinImage();
 		this.gameOverImage = createGameOverImage();
+		this.performanceOverlay = new PerformanceOverlay(root);
 	}
 
 	/**
@@ -84,16 +86,53 @@ public class LevelView {
 	}
 
 	/**
-	 * Removes the hearts from the screen.
+	 * Removes the hearts from the screen. Called on every frame, it does nothing unless
+	 * hearts have been lost since the last call.
+	 *
+	 * @param heartsRemaining the number of hearts to keep
 	 */
 	public void removeHearts(int heartsRemaining) {
 		heartsRemaining = Math.max(heartsRemaining, 0);
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-			heartDisplay.removeHeart();
+		if (heartsRemaining < heartDisplay.getVisibleHeartCount()) {
+			heartDisplay.update(heartsRemaining);
 		}
 	}
 
+	/**
+	 * Shows the performance overlay if it is switched on in {@link GameSettings}, so that it
+	 * stays on when the game moves to another level.
+	 */
+	public void showPerformanceOverlay() {
+		performanceOverlay.setVisible(GameSettings.isPerformanceOverlayShown());
+	}
+
+	/**
+	 * Switches the performance overlay on or off, for this and later levels.
+	 */
+	public void togglePerformanceOverlay() {
+		GameSettings.setPerformanceOverlayShown(!GameSettings.isPerformanceOverlayShown());
+		showPerformanceOverlay();
+	}
+
+	/**
+	 * Refreshes the performance overlay with the figures of a rendered frame. Does nothing
+	 * while the overlay is hidden.
+	 *
+	 * @param level the level being rendered
+	 */
+	public void updatePerformanceOverlay(LevelParent level) {
+		performanceOverlay.update(level);
+	}
+
+	/**
+	 * Gets the performance overlay.
+	 *
+	 * @return the performance overlay
+	 */
+	public PerformanceOverlay getPerformanceOverlay() {
+		return performanceOverlay;
+	}
+
 	/**
 	 * Gets the win image component.
 	 *
@@ -0,0 +1,96 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * The {@code NodeActorRenderer} class renders every actor as a node of the level's root group.
+ * A sprite is attached the first time it is rendered, and removed sprites are detached in one
+ * batch when the next frame begins. JavaFX then draws, bounds and dirty-tracks each actor
+ * separately.
+ */
+public class NodeActorRenderer implements ActorRenderer {
+
+	private final Group root;
+	private final List<Node> removedSprites = new ArrayList<>();
+	private int frameCount;
+	private int renderedCount;
+
+	/**
+	 * Constructs a new {@code NodeActorRenderer}.
+	 *
+	 * @param root the group the sprites are attached to
+	 */
+	public NodeActorRenderer(Group root) {
+		this.root = root;
+	}
+
+	/**
+	 * Detaches the sprites removed since the last frame.
+	 */
+	@Override
+	public void beginFrame() {
+		if (!removedSprites.isEmpty()) {
+			root.getChildren().removeAll(removedSprites);
+			removedSprites.clear();
+		}
+		frameCount = 0;
+	}
+
+	/**
+	 * Attaches the sprite to the root if it is not in the scene yet. The node's own position
+	 * is already up to date.
+	 *
+	 * @param sprite the sprite to render
+	 */
+	@Override
+	public void render(ImageView sprite) {
+		if (sprite.getParent() == null) {
+			root.getChildren().add(sprite);
+		}
+		frameCount++;
+	}
+
+	/**
+	 * Queues the sprite to be detached when the next frame begins.
+	 *
+	 * @param sprite the sprite to remove
+	 */
+	@Override
+	public void remove(ImageView sprite) {
+		if (sprite.getParent() == root) {
+			removedSprites.add(sprite);
+		}
+	}
+
+	/**
+	 * Records the number of sprites rendered in the frame.
+	 */
+	@Override
+	public void endFrame() {
+		renderedCount = frameCount;
+	}
+
+	/**
+	 * Returns the number of sprites rendered during the last completed frame.
+	 *
+	 * @return the number of rendered sprites
+	 */
+	@Override
+	public int getRenderedCount() {
+		return renderedCount;
+	}
+
+	/**
+	 * Forgets the sprites still queued for removal. The level clears its root itself.
+	 */
+	@Override
+	public void dispose() {
+		removedSprites.clear();
+	}
+
+}
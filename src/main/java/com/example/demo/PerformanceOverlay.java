@@ -0,0 +1,165 @@
+package com.example.demo;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@code PerformanceOverlay} class shows live performance figures over a level: frame
+ * rate, simulation step time, FX pulse time, actor counts, allocation rate and garbage
+ * collections. It is toggled with F3 and stays on across levels once shown.
+ * <p>
+ * The overlay costs nothing until it is first shown, since its sampler and nodes are only
+ * created then.
+ * While it is shown, a frame costs a counter increment and a pulse listener measuring the
+ * time from the start of the game loop's frame to the end of layout. The text nodes are
+ * created once and only updated when a {@link PerformanceSampler} window closes, a few times
+ * per second, and only when their text changed.
+ */
+public class PerformanceOverlay {
+
+	private static final double X_POSITION = 1000;
+	private static final double Y_POSITION = 10;
+	private static final double WIDTH = 280;
+	private static final double LINE_HEIGHT = 16;
+	private static final double PADDING = 6;
+	private static final double FONT_SIZE = 12;
+
+	private final Group root;
+	private final Runnable pulseListener;
+	private PerformanceSampler sampler;
+	private Group container;
+	private Text[] texts;
+	private GameLoop gameLoop;
+	private long lastMeasuredFrameNanos;
+	private boolean visible;
+
+	/**
+	 * Constructs a hidden overlay for a level's root group.
+	 *
+	 * @param root the group the overlay is added to when shown
+	 */
+	public PerformanceOverlay(Group root) {
+		this.root = root;
+		this.pulseListener = this::recordPulse;
+	}
+
+	/**
+	 * Shows or hides the overlay. The first time it is shown, its sampler and nodes are
+	 * created and added on top of the level.
+	 *
+	 * @param visible true to show the overlay, false to hide it
+	 */
+	public void setVisible(boolean visible) {
+		if (this.visible == visible) {
+			return;
+		}
+		this.visible = visible;
+		Scene scene = root.getScene();
+		if (visible) {
+			if (container == null) {
+				sampler = PerformanceSampler.forPlatform();
+				container = createNodes();
+			}
+			if (!root.getChildren().contains(container)) {
+				root.getChildren().add(container);
+			}
+			container.toFront();
+			container.setVisible(true);
+			sampler.reset();
+			if (scene != null) {
+				scene.addPostLayoutPulseListener(pulseListener);
+			}
+		} else {
+			container.setVisible(false);
+			if (scene != null) {
+				scene.removePostLayoutPulseListener(pulseListener);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the overlay is shown.
+	 *
+	 * @return true if the overlay is shown, false otherwise
+	 */
+	public boolean isVisible() {
+		return visible;
+	}
+
+	/**
+	 * Creates the background and one text node per line of the sampler.
+	 *
+	 * @return the group holding the overlay's nodes
+	 */
+	private Group createNodes() {
+		Rectangle background = new Rectangle(WIDTH, PerformanceSampler.LINE_COUNT * LINE_HEIGHT + 2 * PADDING,
+				Color.rgb(0, 0, 0, 0.6));
+		Group group = new Group(background);
+		Font font = Font.font("Monospaced", FONT_SIZE);
+		texts = new Text[PerformanceSampler.LINE_COUNT];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = new Text(PADDING, PADDING + (i + 1) * LINE_HEIGHT - 4, "");
+			texts[i].setFont(font);
+			texts[i].setFill(Color.WHITE);
+			group.getChildren().add(texts[i]);
+		}
+		group.setLayoutX(X_POSITION);
+		group.setLayoutY(Y_POSITION);
+		group.setMouseTransparent(true);
+		return group;
+	}
+
+	/**
+	 * Counts a rendered frame and, when a sampling window closes, refreshes the text nodes.
+	 * Does nothing while the overlay is hidden.
+	 *
+	 * @param level the level being rendered
+	 */
+	public void update(LevelParent level) {
+		if (!visible) {
+			return;
+		}
+		gameLoop = level.getGameLoop();
+		sampler.recordFrame();
+		if (sampler.sample(System.nanoTime(), level.getTimings().getHistogram(PhaseTimings.Phase.STEP),
+				level.getEnemyCount(), level.getUserProjectileCount(), level.getEnemyProjectileCount())) {
+			for (int i = 0; i < texts.length; i++) {
+				String line = sampler.getLine(i);
+				if (!line.equals(texts[i].getText())) {
+					texts[i].setText(line);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the time of the pulse that just finished its layout, from the start of the
+	 * game loop's frame. Pulses in which the game loop ran no frame, such as while the game
+	 * is paused, are skipped.
+	 */
+	private void recordPulse() {
+		if (gameLoop == null) {
+			return;
+		}
+		long frameStart = gameLoop.getFrameStartNanos();
+		if (frameStart != 0 && frameStart != lastMeasuredFrameNanos) {
+			lastMeasuredFrameNanos = frameStart;
+			sampler.recordPulse(System.nanoTime() - frameStart);
+		}
+	}
+
+	/**
+	 * Hides the overlay and removes its pulse listener, once its level is disposed.
+	 */
+	public void dispose() {
+		if (visible) {
+			setVisible(false);
+		}
+		gameLoop = null;
+	}
+
+}
@@ -0,0 +1,228 @@
+package com.example.demo;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code PerformanceSampler} class collects the figures shown by the
+ * {@link PerformanceOverlay}. Frames and pulse times are accumulated on every frame, which
+ * costs a few additions; everything else, including the management beans, is only read when
+ * a sampling window closes, at most {@value #SAMPLES_PER_SECOND} times per second. Each window
+ * produces one line of text per figure.
+ */
+public class PerformanceSampler {
+
+	static final int SAMPLES_PER_SECOND = 4;
+	static final int LINE_COUNT = 6;
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final long WINDOW_NANOS = NANOS_PER_SECOND / SAMPLES_PER_SECOND;
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+	private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+	private final LongSupplier allocatedBytes;
+	private final LongSupplier gcCount;
+	private final LongSupplier gcMillis;
+	private final String[] lines = new String[LINE_COUNT];
+
+	private boolean started;
+	private long windowStartNanos;
+	private int frames;
+	private int pulses;
+	private long pulseTotalNanos;
+	private long pulseMaxNanos;
+	private long lastStepCount;
+	private long lastStepTotalNanos;
+	private long lastAllocatedBytes;
+	private long lastGcCount;
+	private long lastGcMillis;
+
+	/**
+	 * Constructs a new {@code PerformanceSampler}.
+	 *
+	 * @param allocatedBytes the bytes allocated so far by the process, or -1 if unknown
+	 * @param gcCount        the number of garbage collections so far
+	 * @param gcMillis       the time spent in garbage collection so far, in milliseconds
+	 */
+	PerformanceSampler(LongSupplier allocatedBytes, LongSupplier gcCount, LongSupplier gcMillis) {
+		this.allocatedBytes = allocatedBytes;
+		this.gcCount = gcCount;
+		this.gcMillis = gcMillis;
+		for (int i = 0; i < LINE_COUNT; i++) {
+			lines[i] = "";
+		}
+	}
+
+	/**
+	 * Returns a sampler reading the allocation and garbage collection figures of this
+	 * virtual machine.
+	 *
+	 * @return the sampler
+	 */
+	public static PerformanceSampler forPlatform() {
+		List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+		return new PerformanceSampler(platformAllocatedBytes(),
+				() -> collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum(),
+				() -> collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum());
+	}
+
+	/**
+	 * Returns the supplier of the bytes allocated by every live thread, when the virtual
+	 * machine can measure it. Threads that exit between two samples take their allocations
+	 * with them, so the figure is a close estimate rather than an exact total.
+	 *
+	 * @return the supplier, returning -1 if allocation cannot be measured
+	 */
+	private static LongSupplier platformAllocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean allocationBean
+				&& allocationBean.isThreadAllocatedMemorySupported()) {
+			if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+				allocationBean.setThreadAllocatedMemoryEnabled(true);
+			}
+			return () -> sumAllocatedBytes(allocationBean);
+		}
+		return () -> -1;
+	}
+
+	/**
+	 * Sums the bytes allocated by every live thread, skipping threads that exited or whose
+	 * allocation is unknown.
+	 *
+	 * @param allocationBean the thread bean measuring allocation
+	 * @return the bytes allocated by the live threads
+	 */
+	private static long sumAllocatedBytes(com.sun.management.ThreadMXBean allocationBean) {
+		long total = 0;
+		for (long bytes : allocationBean.getThreadAllocatedBytes(allocationBean.getAllThreadIds())) {
+			if (bytes > 0) {
+				total += bytes;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Counts a rendered frame.
+	 */
+	public void recordFrame() {
+		frames++;
+	}
+
+	/**
+	 * Records the time the FX thread spent on one pulse.
+	 *
+	 * @param nanos the pulse time, in nanoseconds
+	 */
+	public void recordPulse(long nanos) {
+		pulses++;
+		pulseTotalNanos += nanos;
+		pulseMaxNanos = Math.max(pulseMaxNanos, nanos);
+	}
+
+	/**
+	 * Closes the sampling window if it has lasted long enough, refreshing the lines.
+	 *
+	 * @param now              the current {@link System#nanoTime()}
+	 * @param step             the histogram of the level's simulation steps
+	 * @param enemies          the number of enemy units
+	 * @param userProjectiles  the number of user projectiles
+	 * @param enemyProjectiles the number of enemy projectiles
+	 * @return true if the lines were refreshed, false if the window is still open
+	 */
+	public boolean sample(long now, LatencyHistogram step, int enemies, int userProjectiles, int enemyProjectiles) {
+		if (!started) {
+			start(now, step);
+			return false;
+		}
+		long elapsed = now - windowStartNanos;
+		if (elapsed < WINDOW_NANOS) {
+			return false;
+		}
+		double seconds = (double) elapsed / NANOS_PER_SECOND;
+
+		lines[0] = format("FPS %.1f", frames / seconds);
+
+		long steps = step.getCount() - lastStepCount;
+		long stepNanos = step.getTotalNanos() - lastStepTotalNanos;
+		lines[1] = format("Tick %.2f ms avg, %.2f ms p99", steps == 0 ? 0 : stepNanos / NANOS_PER_MILLI / steps,
+				step.getP99() / NANOS_PER_MILLI);
+
+		lines[2] = format("Pulse %.2f ms avg, %.2f ms max", pulses == 0 ? 0 : pulseTotalNanos / NANOS_PER_MILLI / pulses,
+				pulseMaxNanos / NANOS_PER_MILLI);
+
+		lines[3] = format("Enemies %d, shots %d, enemy shots %d", enemies, userProjectiles, enemyProjectiles);
+
+		long allocated = allocatedBytes.getAsLong();
+		lines[4] = allocated < 0 || lastAllocatedBytes < 0
+				? "Alloc n/a"
+				: format("Alloc %.1f MB/s", (allocated - lastAllocatedBytes) / BYTES_PER_MEGABYTE / seconds);
+
+		long collections = gcCount.getAsLong();
+		long collectionMillis = gcMillis.getAsLong();
+		lines[5] = format("GC %d in window (%d ms), %d total", collections - lastGcCount,
+				collectionMillis - lastGcMillis, collections);
+
+		start(now, step);
+		lastAllocatedBytes = allocated;
+		lastGcCount = collections;
+		lastGcMillis = collectionMillis;
+		return true;
+	}
+
+	/**
+	 * Opens a new sampling window.
+	 *
+	 * @param now  the current {@link System#nanoTime()}
+	 * @param step the histogram of the level's simulation steps
+	 */
+	private void start(long now, LatencyHistogram step) {
+		if (!started) {
+			started = true;
+			lastAllocatedBytes = allocatedBytes.getAsLong();
+			lastGcCount = gcCount.getAsLong();
+			lastGcMillis = gcMillis.getAsLong();
+		}
+		windowStartNanos = now;
+		frames = 0;
+		pulses = 0;
+		pulseTotalNanos = 0;
+		pulseMaxNanos = 0;
+		lastStepCount = step.getCount();
+		lastStepTotalNanos = step.getTotalNanos();
+	}
+
+	/**
+	 * Forgets the open window, so that the next sample starts a fresh one. Used when the
+	 * overlay is hidden, since frames are not counted while it is.
+	 */
+	public void reset() {
+		started = false;
+	}
+
+	/**
+	 * Returns a line of the last sample.
+	 *
+	 * @param index the index of the line, below {@value #LINE_COUNT}
+	 * @return the line, empty before the first sample
+	 */
+	public String getLine(int index) {
+		return lines[index];
+	}
+
+	/**
+	 * Formats a line independently of the default locale.
+	 *
+	 * @param pattern the format pattern
+	 * @param args    the values
+	 * @return the line
+	 */
+	private static String format(String pattern, Object... args) {
+		return String.format(Locale.ROOT, pattern, args);
+	}
+
+}
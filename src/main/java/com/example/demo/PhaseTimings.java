@@ -0,0 +1,133 @@
+package com.example.demo;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code PhaseTimings} class times the phases of a level's simulation step and frame, with
+ * one {@link LatencyHistogram} per phase. Timings are kept per level class and survive the
+ * level instances, so they cover every run of a level since the game started and can be read
+ * at any time through {@link #forLevel(Class)} or {@link #getAll()}.
+ * <p>
+ * Timing a phase costs one {@link System#nanoTime()} call and one histogram update, so the
+ * instrumentation stays on in every build.
+ */
+public class PhaseTimings {
+
+	/**
+	 * The timed phases of a level.
+	 */
+	public enum Phase {
+		SPAWN,
+		UPDATE,
+		ENEMY_FIRE,
+		SCHEDULED_TASKS,
+		COLLISIONS,
+		PENETRATION,
+		REMOVAL,
+		GAME_OVER,
+		STEP,
+		RENDER,
+		VIEW
+	}
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+	private static final Map<String, PhaseTimings> TIMINGS = new ConcurrentHashMap<>();
+
+	private final String levelName;
+	private final LatencyHistogram[] histograms;
+
+	/**
+	 * Constructs timings for a level.
+	 *
+	 * @param levelName the name the timings are reported under
+	 */
+	PhaseTimings(String levelName) {
+		this.levelName = levelName;
+		this.histograms = new LatencyHistogram[Phase.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Returns the timings shared by every instance of a level class, creating them on first use.
+	 *
+	 * @param levelClass the level class
+	 * @return the timings of the level class
+	 */
+	public static PhaseTimings forLevel(Class<? extends LevelParent> levelClass) {
+		return TIMINGS.computeIfAbsent(levelClass.getSimpleName(), PhaseTimings::new);
+	}
+
+	/**
+	 * Returns the timings of every level class that has run, by level name.
+	 *
+	 * @return an unmodifiable, name-ordered view of the timings
+	 */
+	public static Map<String, PhaseTimings> getAll() {
+		return Collections.unmodifiableMap(new TreeMap<>(TIMINGS));
+	}
+
+	/**
+	 * Records the time elapsed since the start of a phase and returns the current time, so that
+	 * consecutive phases can be timed with one clock read each.
+	 *
+	 * @param phase      the phase that just ended
+	 * @param startNanos the {@link System#nanoTime()} at which the phase started
+	 * @return the current {@link System#nanoTime()}, the start of the next phase
+	 */
+	public long record(Phase phase, long startNanos) {
+		long now = System.nanoTime();
+		histograms[phase.ordinal()].record(now - startNanos);
+		return now;
+	}
+
+	/**
+	 * Returns the histogram of a phase.
+	 *
+	 * @param phase the phase
+	 * @return the phase's histogram
+	 */
+	public LatencyHistogram getHistogram(Phase phase) {
+		return histograms[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the name the timings are reported under.
+	 *
+	 * @return the level name
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Forgets every recorded timing of the level.
+	 */
+	public void reset() {
+		for (LatencyHistogram histogram : histograms) {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Describes the timings as one line per phase with its count, p50, p99 and maximum,
+	 * in milliseconds.
+	 *
+	 * @return the summary
+	 */
+	public String summary() {
+		StringBuilder builder = new StringBuilder(levelName);
+		for (Phase phase : Phase.values()) {
+			LatencyHistogram histogram = getHistogram(phase);
+			builder.append(String.format("%n  %-15s n=%-8d p50=%.3fms p99=%.3fms max=%.3fms",
+					phase, histogram.getCount(), histogram.getP50() / NANOS_PER_MILLI,
+					histogram.getP99() / NANOS_PER_MILLI, histogram.getMax() / NANOS_PER_MILLI));
+		}
+		return builder.toString();
+	}
+
+}
@@ -2,9 +2,13 @@ package com.example.demo;
 
 /**
  * Abstract class representing a projectile in the game
+ * Projectiles created through a {@link ProjectilePool} are returned to it once destroyed
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+	private ProjectilePool<?> pool;
+	private boolean inPool;
+
 	/**
 	 * Constructor for a projectile
 	 * @param imageName    the name of the image representing the projectile
@@ -25,6 +29,57 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy();
 	}
 
+	/**
+	 * Places a reused projectile at a new position and revives it
+	 * @param initialXPos  the new X position of the projectile
+	 * @param initialYPos  the new Y position of the projectile
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		getModel().teleport(initialXPos, initialYPos);
+		getModel().setDestroyed(false);
+	}
+
+	/**
+	 * Returns the projectile to the pool it was acquired from, if any
+	 */
+	public void release() {
+		if (pool != null) {
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * Returns the pool that created the projectile
+	 * @return the pool, or null if the projectile was constructed directly
+	 */
+	ProjectilePool<?> getOwningPool() {
+		return pool;
+	}
+
+	/**
+	 * Sets the pool that created the projectile
+	 * @param pool  the pool
+	 */
+	void setOwningPool(ProjectilePool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Checks whether the projectile is idle in its pool
+	 * @return true if the projectile has been released and not acquired again
+	 */
+	boolean isInPool() {
+		return inPool;
+	}
+
+	/**
+	 * Marks the projectile as idle in its pool or in use
+	 * @param inPool  true if the projectile is idle in its pool
+	 */
+	void setInPool(boolean inPool) {
+		this.inPool = inPool;
+	}
+
 	/**
 	 * Updates the position of the projectile
 	 * Mehod to be implemented by subclasses
@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ProjectilePool} class keeps destroyed projectiles of one type for reuse, so that
+ * sustained fire does not construct a new node, image lookup and model per shot.
+ * <p>
+ * {@link #acquire()} returns a pooled projectile when one is available (a hit) and creates a
+ * new one otherwise (a miss). Projectiles are returned with {@link #release(Projectile)} once
+ * they are destroyed or culled. At most {@code capacity} idle projectiles are kept; any
+ * projectile released beyond that is left to the garbage collector.
+ *
+ * @param <T> the type of projectile held by the pool
+ */
+public class ProjectilePool<T extends Projectile> {
+
+	private final int capacity;
+	private final Supplier<T> factory;
+	private final Deque<T> available;
+
+	private long hits;
+	private long misses;
+	private long discards;
+
+	/**
+	 * Constructs a new, empty {@code ProjectilePool}.
+	 *
+	 * @param capacity the maximum number of idle projectiles kept for reuse
+	 * @param factory  creates a new projectile when the pool is empty
+	 */
+	public ProjectilePool(int capacity, Supplier<T> factory) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		this.capacity = capacity;
+		this.factory = factory;
+		this.available = new ArrayDeque<>(capacity);
+	}
+
+	/**
+	 * Takes an idle projectile from the pool, or creates one if none is idle. The caller is
+	 * expected to place the projectile with {@link Projectile#reset(double, double)}.
+	 *
+	 * @return a projectile that is not in use
+	 */
+	public T acquire() {
+		T projectile = available.poll();
+		if (projectile != null) {
+			hits++;
+		} else {
+			misses++;
+			projectile = factory.get();
+			projectile.setOwningPool(this);
+		}
+		projectile.setInPool(false);
+		return projectile;
+	}
+
+	/**
+	 * Returns a projectile to the pool. Projectiles created by another pool or by a constructor,
+	 * and projectiles already returned, are ignored, so a projectile can never be handed out twice.
+	 *
+	 * @param projectile the projectile to return
+	 */
+	@SuppressWarnings("unchecked")
+	public void release(Projectile projectile) {
+		if (projectile.getOwningPool() != this || projectile.isInPool()) {
+			return;
+		}
+		projectile.setInPool(true);
+		if (available.size() < capacity) {
+			available.push((T) projectile);
+		} else {
+			discards++;
+		}
+	}
+
+	/**
+	 * Returns the number of acquisitions served from the pool.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of acquisitions that had to create a new projectile.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of released projectiles dropped because the pool was full.
+	 *
+	 * @return the number of discards
+	 */
+	public long getDiscards() {
+		return discards;
+	}
+
+	/**
+	 * Returns the number of idle projectiles in the pool.
+	 *
+	 * @return the number of available projectiles
+	 */
+	public int getAvailableCount() {
+		return available.size();
+	}
+
+	/**
+	 * Returns the maximum number of idle projectiles kept by the pool.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -8,8 +7,10 @@ import javafx.scene.image.ImageView;
  */
 public class ShieldImage extends ImageView {
 
-    private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
-    private static final int SHIELD_SIZE = 50;
+    static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
+    static final int SHIELD_SIZE = 50;
+
+    private static final GameLog LOG = GameLog.get(ShieldImage.class);
 
     /**
      * Constructor for ShieldImage class.
@@ -19,13 +20,11 @@ public class ShieldImage extends ImageView {
     public ShieldImage(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        System.out.println("ShieldImage initialized at position: (" + xPosition + ", " + yPosition + ")");
-        var resource = getClass().getResource(IMAGE_NAME);
-        if (resource != null) {
-            System.out.println("Resource loaded from: " + resource.toExternalForm());
-            this.setImage(new Image(resource.toExternalForm()));
+        LOG.fine("ShieldImage initialized at position: ({0}, {1})", xPosition, yPosition);
+        if (SpriteAtlas.get().show(this, IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE)) {
+            LOG.fine("Resource loaded from: {0}", getImage().getUrl());
         } else {
-            System.out.println("Shield image resource not found.");
+            LOG.warning("Shield image resource not found.");
         }
         this.setFitHeight(SHIELD_SIZE);
         this.setFitWidth(SHIELD_SIZE);
@@ -36,7 +35,7 @@ public class ShieldImage extends ImageView {
      */
     public void showShield() {
         if (!this.isVisible()) {
-            System.out.println("Shield is now visible.");
+            LOG.fine("Shield is now visible.");
             this.setVisible(true);
             this.toFront();
         }
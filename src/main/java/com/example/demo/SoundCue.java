@@ -0,0 +1,90 @@
+package com.example.demo;
+
+/**
+ * The {@code SoundCue} enum lists the sound effects of the game together with the limits the
+ * {@link AudioMixer} applies to them: how many voices a cue may hold at once, its priority when
+ * voices run out, how soon it may be triggered again, and how long a voice stays busy.
+ */
+public enum SoundCue {
+
+	LAUNCH_GAME("launchgame.wav", 1, 10, 0, 3000),
+	GAME_OVER("gameover.wav", 1, 10, 0, 3000),
+	YOU_WIN("youwin.wav", 1, 10, 0, 3000),
+	USER_HIT("userhit.wav", 2, 8, 100, 500),
+	USER_SHOOT("usershoot.wav", 4, 6, 40, 300),
+	ENEMY_DESTROY("enemydestroy.wav", 3, 5, 50, 600),
+	FIREBALL("fireball.wav", 2, 4, 100, 800),
+	ENEMY_FIRE("enemyfire.wav", 3, 3, 80, 300),
+	BOMB_DROP("bombdrop.wav", 2, 1, 250, 1000);
+
+	private static final String SOUND_LOCATION = "/com/example/demo/sounds/";
+
+	private final String path;
+	private final int maxVoices;
+	private final int priority;
+	private final long minRetriggerMillis;
+	private final long voiceMillis;
+
+	/**
+	 * Constructs a sound cue.
+	 *
+	 * @param fileName           the name of the sound file
+	 * @param maxVoices          the maximum number of overlapping instances of the cue
+	 * @param priority           the priority of the cue, higher cues may steal voices from lower ones
+	 * @param minRetriggerMillis the minimum time between two plays of the cue
+	 * @param voiceMillis        how long a play of the cue holds its voice
+	 */
+	SoundCue(String fileName, int maxVoices, int priority, long minRetriggerMillis, long voiceMillis) {
+		this.path = SOUND_LOCATION + fileName;
+		this.maxVoices = maxVoices;
+		this.priority = priority;
+		this.minRetriggerMillis = minRetriggerMillis;
+		this.voiceMillis = voiceMillis;
+	}
+
+	/**
+	 * Returns the resource path of the cue's sound file.
+	 *
+	 * @return the resource path
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the maximum number of overlapping instances of the cue.
+	 *
+	 * @return the voice limit
+	 */
+	public int getMaxVoices() {
+		return maxVoices;
+	}
+
+	/**
+	 * Returns the priority of the cue.
+	 *
+	 * @return the priority, higher values being more important
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Returns the minimum time between two plays of the cue.
+	 *
+	 * @return the retrigger interval, in milliseconds
+	 */
+	public long getMinRetriggerMillis() {
+		return minRetriggerMillis;
+	}
+
+	/**
+	 * Returns how long a play of the cue holds its voice.
+	 *
+	 * @return the voice duration, in milliseconds
+	 */
+	public long getVoiceMillis() {
+		return voiceMillis;
+	}
+
+}
@@ -1,34 +1,171 @@
 package com.example.demo;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 import javafx.scene.media.AudioClip;
 
 /**
  * Utility class for loading and playing sound effects in the game.
+ * It acts as a registry of shared clips: each sound file is loaded once, the first time it is
+ * requested, and every later request returns the same {@link AudioClip}. An {@code AudioClip}
+ * can play several overlapping instances, so sharing it does not limit playback.
+ * <p>
+ * The registry lock is only held to look up and insert entries. A sound is loaded outside it
+ * by the first thread to request it, and other threads requesting the same sound meanwhile
+ * wait for that load, so playing a loaded sound never waits behind the load of another.
+ * Sounds that cannot be loaded are remembered too, so a missing file is looked up and
+ * reported once rather than every time it would be played.
  */
 public class SoundEffects {
 
-    private static final Logger logger = Logger.getLogger(SoundEffects.class.getName());
+    private static final GameLog LOG = GameLog.get(SoundEffects.class);
+
+    private static final CompletableFuture<AudioClip> MISSING = CompletableFuture.completedFuture(null);
+
+    private static final Map<String, CompletableFuture<AudioClip>> clips = new HashMap<>();
+    private static final Map<String, Long> loadNanos = new HashMap<>();
+    private static long hitCount;
 
     /**
-     * Loads an audio clip from the specified path.
+     * Returns the shared audio clip of the specified path, loading it on first use.
      *
      * @param path  the path to the sound file
      * @param clazz the class used to load the resource
-     * @return      the loaded Audioclip, or null if the sound could not be loaded
+     * @return      the shared Audioclip, or null if the sound could not be loaded
      */
     public static AudioClip loadSound(String path, Class<?> clazz) {
+        CompletableFuture<AudioClip> entry;
+        boolean loading = false;
+        synchronized (SoundEffects.class) {
+            entry = clips.get(path);
+            if (entry == MISSING) {
+                return null;
+            } else if (entry != null) {
+                hitCount++;
+            } else {
+                entry = new CompletableFuture<>();
+                clips.put(path, entry);
+                loading = true;
+            }
+        }
+        if (loading) {
+            load(path, clazz, entry);
+        }
+        return entry.join();
+    }
+
+    /**
+     * Loads a sound outside the registry lock and completes its entry. Sounds that could not
+     * be loaded are replaced in the registry by a shared marker, so they are not tried again.
+     *
+     * @param path  the path to the sound file
+     * @param clazz the class used to load the resource
+     * @param entry the entry inserted for the sound
+     */
+    private static void load(String path, Class<?> clazz, CompletableFuture<AudioClip> entry) {
+        AudioClip clip = null;
+        long nanos = 0;
         try {
             var resource = clazz.getResource(path);
             if (resource != null) {
-                return new AudioClip(resource.toExternalForm());
+                long start = System.nanoTime();
+                clip = new AudioClip(resource.toExternalForm());
+                nanos = System.nanoTime() - start;
             } else {
-                logger.warning("Sound file not found: " + path);
+                LOG.warning("Sound file not found: {0}", path);
             }
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Failed to load sound: " + path, e);
+            LOG.log(Level.SEVERE, "Failed to load sound: " + path, e);
+        }
+        synchronized (SoundEffects.class) {
+            if (clip != null) {
+                loadNanos.put(path, nanos);
+            } else {
+                clips.replace(path, entry, MISSING);
+            }
+            entry.complete(clip);
+        }
+    }
+
+    /**
+     * Returns the clip of a registry entry if it has finished loading.
+     *
+     * @param entry the registry entry, or null
+     * @return      the loaded clip, or null if the entry is missing, still loading or failed
+     */
+    private static AudioClip loadedClip(CompletableFuture<AudioClip> entry) {
+        return entry == null ? null : entry.getNow(null);
+    }
+
+    /**
+     * Loads the specified sounds ahead of time, so that the actors using them do no audio I/O
+     * when they are created.
+     *
+     * @param clazz the class used to load the resources
+     * @param paths the paths to the sound files
+     */
+    public static void preload(Class<?> clazz, String... paths) {
+        for (String path : paths) {
+            loadSound(path, clazz);
+        }
+    }
+
+    /**
+     * Checks whether a sound has already been loaded.
+     *
+     * @param path the path to the sound file
+     * @return     true if the sound is in the registry, false otherwise
+     */
+    public static synchronized boolean isLoaded(String path) {
+        return loadedClip(clips.get(path)) != null;
+    }
+
+    /**
+     * Returns the number of distinct sounds loaded.
+     *
+     * @return the number of loaded sounds
+     */
+    public static synchronized int getLoadedCount() {
+        int count = 0;
+        for (CompletableFuture<AudioClip> entry : clips.values()) {
+            if (loadedClip(entry) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of requests served with an already loaded sound.
+     *
+     * @return the number of registry hits
+     */
+    public static synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the time it took to load a sound.
+     *
+     * @param path the path to the sound file
+     * @return     the load time in nanoseconds, or -1 if the sound has not been loaded
+     */
+    public static synchronized long getLoadNanos(String path) {
+        return loadNanos.getOrDefault(path, -1L);
+    }
+
+    /**
+     * Returns the total time spent loading sounds.
+     *
+     * @return the total load time in nanoseconds
+     */
+    public static synchronized long getTotalLoadNanos() {
+        long total = 0;
+        for (long nanos : loadNanos.values()) {
+            total += nanos;
         }
-        return null;
+        return total;
     }
 }
@@ -0,0 +1,220 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SpatialHashGrid} class is a uniform-grid spatial hash used as a broadphase
+ * for collision detection. Actors are inserted by their axis-aligned bounding box into
+ * every cell they overlap, and a query returns the ids of all actors stored in the cells
+ * overlapped by the query box. Only those candidates need an exact intersection test.
+ * <p>
+ * The grid is rebuilt every tick with {@link #clear()} followed by {@link #insert}.
+ * All storage is held in primitive arrays that only grow, so a rebuild does not allocate
+ * once the grid has reached its working size.
+ */
+public class SpatialHashGrid {
+
+	private static final int DEFAULT_BUCKET_COUNT = 256;
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int EMPTY = -1;
+
+	private final double cellSize;
+	private final int bucketMask;
+	private final int[] bucketHeads;
+
+	private int[] entryIds;
+	private int[] entryNext;
+	private int entryCount;
+
+	private int[] lastQueryStamp;
+	private int queryStamp;
+	private int[] results;
+	private int resultCount;
+
+	/**
+	 * Constructs a new {@code SpatialHashGrid} with the specified cell size.
+	 *
+	 * @param cellSize the width and height of a single grid cell, in pixels
+	 */
+	public SpatialHashGrid(double cellSize) {
+		this(cellSize, DEFAULT_BUCKET_COUNT);
+	}
+
+	/**
+	 * Constructs a new {@code SpatialHashGrid} with the specified cell size and bucket count.
+	 *
+	 * @param cellSize    the width and height of a single grid cell, in pixels
+	 * @param bucketCount the number of hash buckets, rounded up to a power of two
+	 */
+	public SpatialHashGrid(double cellSize, int bucketCount) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+		}
+		this.cellSize = cellSize;
+		int buckets = Integer.highestOneBit(Math.max(1, bucketCount - 1) << 1);
+		this.bucketMask = buckets - 1;
+		this.bucketHeads = new int[buckets];
+		this.entryIds = new int[INITIAL_CAPACITY];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.lastQueryStamp = new int[INITIAL_CAPACITY];
+		this.results = new int[INITIAL_CAPACITY];
+		clear();
+	}
+
+	/**
+	 * Removes all actors from the grid.
+	 */
+	public void clear() {
+		Arrays.fill(bucketHeads, EMPTY);
+		entryCount = 0;
+		resultCount = 0;
+	}
+
+	/**
+	 * Inserts an actor into every cell overlapped by the given bounding box.
+	 *
+	 * @param id   a non-negative id identifying the actor, usually its index in a list
+	 * @param minX the minimum x coordinate of the bounding box
+	 * @param minY the minimum y coordinate of the bounding box
+	 * @param maxX the maximum x coordinate of the bounding box
+	 * @param maxY the maximum y coordinate of the bounding box
+	 */
+	public void insert(int id, double minX, double minY, double maxX, double maxY) {
+		ensureIdCapacity(id + 1);
+		int firstCellX = toCell(minX);
+		int firstCellY = toCell(minY);
+		int lastCellX = toCell(maxX);
+		int lastCellY = toCell(maxY);
+		for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+			for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+				addEntry(bucketOf(cellX, cellY), id);
+			}
+		}
+	}
+
+	/**
+	 * Collects the ids of all actors stored in the cells overlapped by the given bounding box.
+	 * Each id is reported once, in ascending order. The results are available through
+	 * {@link #getResult(int)} until the next query.
+	 *
+	 * @param minX the minimum x coordinate of the bounding box
+	 * @param minY the minimum y coordinate of the bounding box
+	 * @param maxX the maximum x coordinate of the bounding box
+	 * @param maxY the maximum y coordinate of the bounding box
+	 * @return the number of candidate ids found
+	 */
+	public int query(double minX, double minY, double maxX, double maxY) {
+		resultCount = 0;
+		nextQueryStamp();
+		int firstCellX = toCell(minX);
+		int firstCellY = toCell(minY);
+		int lastCellX = toCell(maxX);
+		int lastCellY = toCell(maxY);
+		for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+			for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+				collectBucket(bucketOf(cellX, cellY));
+			}
+		}
+		Arrays.sort(results, 0, resultCount);
+		return resultCount;
+	}
+
+	/**
+	 * Returns a candidate id found by the last query.
+	 *
+	 * @param index the index of the candidate, between 0 and the last query's result count
+	 * @return the candidate id
+	 */
+	public int getResult(int index) {
+		return results[index];
+	}
+
+	/**
+	 * Returns the cell size of the grid.
+	 *
+	 * @return the cell size, in pixels
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Converts a coordinate to a cell index.
+	 *
+	 * @param coordinate the coordinate to convert
+	 * @return the index of the cell containing the coordinate
+	 */
+	private int toCell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	/**
+	 * Hashes a cell to its bucket.
+	 *
+	 * @param cellX the x index of the cell
+	 * @param cellY the y index of the cell
+	 * @return the bucket index of the cell
+	 */
+	private int bucketOf(int cellX, int cellY) {
+		int hash = cellX * 73856093 ^ cellY * 19349663;
+		return hash & bucketMask;
+	}
+
+	/**
+	 * Adds an entry for the given id to the front of a bucket's chain.
+	 *
+	 * @param bucket the bucket to add to
+	 * @param id     the id of the actor
+	 */
+	private void addEntry(int bucket, int id) {
+		if (entryCount == entryIds.length) {
+			entryIds = Arrays.copyOf(entryIds, entryCount * 2);
+			entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+		}
+		entryIds[entryCount] = id;
+		entryNext[entryCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = entryCount;
+		entryCount++;
+	}
+
+	/**
+	 * Adds every id in a bucket's chain to the results, skipping ids already reported
+	 * by the current query.
+	 *
+	 * @param bucket the bucket to collect
+	 */
+	private void collectBucket(int bucket) {
+		for (int entry = bucketHeads[bucket]; entry != EMPTY; entry = entryNext[entry]) {
+			int id = entryIds[entry];
+			if (lastQueryStamp[id] != queryStamp) {
+				lastQueryStamp[id] = queryStamp;
+				results[resultCount++] = id;
+			}
+		}
+	}
+
+	/**
+	 * Advances the query stamp used to report each id once per query.
+	 */
+	private void nextQueryStamp() {
+		queryStamp++;
+		if (queryStamp == 0) {
+			Arrays.fill(lastQueryStamp, 0);
+			queryStamp = 1;
+		}
+	}
+
+	/**
+	 * Grows the per-id arrays so that ids below the given capacity can be stored.
+	 *
+	 * @param capacity the number of ids that must fit
+	 */
+	private void ensureIdCapacity(int capacity) {
+		if (capacity > lastQueryStamp.length) {
+			int newCapacity = Math.max(capacity, lastQueryStamp.length * 2);
+			lastQueryStamp = Arrays.copyOf(lastQueryStamp, newCapacity);
+			results = Arrays.copyOf(results, newCapacity);
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.example.demo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The {@code SpriteAtlas} class serves gameplay sprites from the single atlas image written by
+ * {@link AtlasPacker}. A sprite found in the atlas is shown by pointing an {@link ImageView} at
+ * the atlas image with a viewport on the sprite's region, so every sprite shares one texture
+ * and one decode.
+ * <p>
+ * The atlas is opt-in: it is only built by the {@code atlas} Maven profile
+ * ({@code mvn -Patlas package}), and the default build ships without it. When it is missing,
+ * or does not hold a sprite at the requested size, the sprite is shown from its own image in
+ * {@link ImageCache} as before.
+ */
+public final class SpriteAtlas {
+
+	private static final GameLog LOG = GameLog.get(SpriteAtlas.class);
+	private static final String ATLAS_LOCATION = "/" + AtlasPacker.ATLAS_DIRECTORY + "/";
+	private static final SpriteAtlas EMPTY = new SpriteAtlas(null, Collections.emptyMap());
+	private static SpriteAtlas shared;
+
+	private final Image image;
+	private final Map<String, Rectangle2D> regions;
+
+	/**
+	 * Constructs a sprite atlas.
+	 *
+	 * @param image   the atlas image, or null for an empty atlas
+	 * @param regions the region of each sprite in the image, by key
+	 */
+	SpriteAtlas(Image image, Map<String, Rectangle2D> regions) {
+		this.image = image;
+		this.regions = regions;
+	}
+
+	/**
+	 * Returns the atlas packed with the game, loading it on first use.
+	 *
+	 * @return the shared atlas, empty if the game was built without one
+	 */
+	public static synchronized SpriteAtlas get() {
+		if (shared == null) {
+			shared = loadShared();
+		}
+		return shared;
+	}
+
+	/**
+	 * Loads the atlas packed with the game from the classpath.
+	 *
+	 * @return the atlas, or an empty atlas if it is missing or unreadable
+	 */
+	private static SpriteAtlas loadShared() {
+		try (InputStream index = SpriteAtlas.class.getResourceAsStream(ATLAS_LOCATION + AtlasPacker.ATLAS_INDEX)) {
+			if (index == null) {
+				return EMPTY;
+			}
+			Image atlasImage = ImageCache.get(ATLAS_LOCATION + AtlasPacker.ATLAS_IMAGE);
+			if (atlasImage == null || atlasImage.isError()) {
+				return EMPTY;
+			}
+			return new SpriteAtlas(atlasImage, readIndex(index));
+		} catch (IOException | RuntimeException e) {
+			LOG.log(Level.WARNING, "Failed to load the sprite atlas, using separate sprites", e);
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Reads an atlas index written by {@link AtlasPacker}.
+	 *
+	 * @param index the index contents
+	 * @return the region of each sprite, by key
+	 * @throws IOException if the index cannot be read or is malformed
+	 */
+	static Map<String, Rectangle2D> readIndex(InputStream index) throws IOException {
+		Map<String, Rectangle2D> regions = new HashMap<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			String[] fields = line.split("\t");
+			if (fields.length != 5) {
+				throw new IOException("Malformed atlas index line: " + line);
+			}
+			try {
+				regions.put(fields[0], new Rectangle2D(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+						Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+			} catch (NumberFormatException e) {
+				throw new IOException("Malformed atlas index line: " + line, e);
+			}
+		}
+		return regions;
+	}
+
+	/**
+	 * Shows a sprite on an image view, from the atlas if it holds the sprite at the requested
+	 * size, or from the sprite's own image otherwise.
+	 *
+	 * @param view   the image view to show the sprite on
+	 * @param path   the absolute resource path of the sprite
+	 * @param width  the width the sprite is displayed at, or 0
+	 * @param height the height the sprite is displayed at, or 0
+	 * @return true if the sprite is shown, false if its image could not be found
+	 */
+	public boolean show(ImageView view, String path, double width, double height) {
+		Rectangle2D region = getRegion(path, width, height);
+		if (region != null) {
+			view.setImage(image);
+			view.setViewport(region);
+			return true;
+		}
+		Image sprite = ImageCache.get(path, width, height);
+		if (sprite == null) {
+			return false;
+		}
+		view.setImage(sprite);
+		view.setViewport(null);
+		return true;
+	}
+
+	/**
+	 * Returns the region of a sprite in the atlas.
+	 *
+	 * @param path   the absolute resource path of the sprite
+	 * @param width  the width the sprite is displayed at, or 0
+	 * @param height the height the sprite is displayed at, or 0
+	 * @return the region of the sprite, or null if the atlas does not hold it at that size
+	 */
+	public Rectangle2D getRegion(String path, double width, double height) {
+		return regions.get(AssetManifest.ImageVariant.keyOf(path, width, height));
+	}
+
+	/**
+	 * Checks whether an atlas was loaded.
+	 *
+	 * @return true if sprites can be served from the atlas, false otherwise
+	 */
+	public boolean isAvailable() {
+		return image != null;
+	}
+
+	/**
+	 * Returns the number of sprites in the atlas.
+	 *
+	 * @return the number of sprites
+	 */
+	public int size() {
+		return regions.size();
+	}
+
+	/**
+	 * Returns the atlas image.
+	 *
+	 * @return the atlas image, or null if no atlas was loaded
+	 */
+	public Image getImage() {
+		return image;
+	}
+
+}
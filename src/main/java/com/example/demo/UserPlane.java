@@ -1,41 +1,31 @@
 package com.example.demo;
 
-import java.util.logging.Logger;
-import javafx.scene.media.AudioClip;
-import javafx.animation.Timeline;
-
 /**
  * Represents the user plane in the game. The UserPlane handles its own movement,
  * interaction with enemies, projectiles, and the situation when the game wins or loses.
  */
 public class UserPlane extends FighterPlane {
 
-	private static final String IMAGE_NAME = "userplane.png";
+	static final String IMAGE_NAME = "userplane.png";
 	private static final double Y_UPPER_BOUND = -40;
 	private static final double Y_LOWER_BOUND = 600.0;
 	private static final double X_LEFT_BOUND = 0.0;
 	private static final double X_RIGHT_BOUND = 800.0;
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
-	private static final int IMAGE_HEIGHT = 100;
+	static final int IMAGE_HEIGHT = 100;
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HORIZONTAL_VELOCITY = 8;
 	private static final int PROJECTILE_X_POSITION = 100;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = -20;
-	private static final Logger logger = Logger.getLogger(UserPlane.class.getName());
+	private static final GameLog LOG = GameLog.get(UserPlane.class);
+	private static final GameLog KILL_LOG = LOG.rateLimited(GameConstants.HOT_PATH_LOG_INTERVAL_MS);
 
 	private int verticalVelocityMultiplier;
 	private int horizontalVelocityMultiplier;
 	private int numberOfKills;
 	private final HeartDisplay heartDisplay;
 
-	private AudioClip shootSound;
-	private AudioClip gameOverSound;
-	private AudioClip youWinSound;
-	private AudioClip hitSound;
-
-	private Timeline bombTimeline;
-
 	/**
 	 * Constructs a UserPlane with specified initial health and heart display.
 	 *
@@ -49,15 +39,12 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Initializes the audio clips used for various actions in the game.
+	 * Loads the sound cues used for various actions in the game.
 	 */
 	private void initializeSounds() {
 		this.verticalVelocityMultiplier = 0;
 		this.horizontalVelocityMultiplier = 0;
-		this.shootSound = SoundEffects.loadSound("/com/example/demo/sounds/usershoot.wav", this.getClass());
-		this.gameOverSound = SoundEffects.loadSound("/com/example/demo/sounds/gameover.wav", this.getClass());
-		this.youWinSound = SoundEffects.loadSound("/com/example/demo/sounds/youwin.wav", this.getClass());
-		this.hitSound = SoundEffects.loadSound("/com/example/demo/sounds/userhit.wav", this.getClass());
+		AudioMixer.preload(SoundCue.USER_SHOOT, SoundCue.GAME_OVER, SoundCue.YOU_WIN, SoundCue.USER_HIT);
 	}
 
 	/**
@@ -69,13 +56,13 @@ public class UserPlane extends FighterPlane {
 			if (!isMoving()) {
 				return;
 			}
-			double initialTranslateY = getTranslateY();
-			double initialTranslateX = getTranslateX();
+			double initialYPosition = getModel().getY();
+			double initialXPosition = getModel().getX();
 			moveVertically(VERTICAL_VELOCITY * verticalVelocityMultiplier);
 			moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
 			if (isOutOfBounds()) {
-				setTranslateY(initialTranslateY);
-				setTranslateY(initialTranslateX);
+				getModel().setY(initialYPosition);
+				getModel().setX(initialXPosition);
 			}
 		}
 
@@ -85,8 +72,8 @@ public class UserPlane extends FighterPlane {
 	 * @return true if the plane's position is out of bounds, otherwise false.
 	 */
 	private boolean isOutOfBounds() {
-		double newYPosition = getLayoutY() + getTranslateY();
-		double newXPosition = getLayoutX() + getTranslateX();
+		double newYPosition = getModel().getY();
+		double newXPosition = getModel().getX();
 		return newYPosition < Y_UPPER_BOUND || newYPosition > Y_LOWER_BOUND || newXPosition < X_LEFT_BOUND || newXPosition > X_RIGHT_BOUND;
 	}
 
@@ -105,22 +92,31 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-			playSound(shootSound);
+			playSound(SoundCue.USER_SHOOT);
 			double[] projectilePosition = getProjectilePosition(PROJECTILE_X_POSITION, PROJECTILE_Y_POSITION_OFFSET);
-			return new UserProjectile(projectilePosition[0], projectilePosition[1]);
+			return UserProjectile.acquire(projectilePosition[0], projectilePosition[1]);
 		}
 
 	/**
-	 * Plays a specified sound effect if it is not null.
+	 * Plays a specified sound effect through the audio mixer.
 	 *
-	 * @param sound The AudioClip to be played.
+	 * @param cue The sound cue to be played.
 	 */
-	private void playSound(AudioClip sound) {
-			if (sound != null) {
-				sound.play();
-			}
+	private void playSound(SoundCue cue) {
+			AudioMixer.get().play(cue);
 		}
 
+	/**
+	 * Stops every sound effect of the UserPlane.
+	 */
+	@Override
+	public void stopSounds() {
+		AudioMixer.get().stop(SoundCue.USER_SHOOT);
+		AudioMixer.get().stop(SoundCue.GAME_OVER);
+		AudioMixer.get().stop(SoundCue.YOU_WIN);
+		AudioMixer.get().stop(SoundCue.USER_HIT);
+	}
+
 	/**
 	 * Determines if the UserPlane is currently moving.
 	 *
@@ -174,7 +170,7 @@ public class UserPlane extends FighterPlane {
 	 */
 	public void incrementKillCount() {
 			numberOfKills++;
-			System.out.println("Incremented kill count. Current number of kills: " + numberOfKills);
+			KILL_LOG.fine("Incremented kill count. Current number of kills: {0}", numberOfKills);
 		}
 
 	/**
@@ -192,22 +188,15 @@ public class UserPlane extends FighterPlane {
 	 * Handles the event when the game is over, playing a sound and logging the event.
 	 */
 	public void handleGameOver() {
-			logger.info("Game over. Playing game over sound.");
-			playSound(gameOverSound);
-			if (bombTimeline != null) {
-				bombTimeline.stop();
-			}
-	}
-
-	public void setBombTimeline(Timeline bombTimeline) {
-		this.bombTimeline = bombTimeline;
+			LOG.info("Game over. Playing game over sound.");
+			playSound(SoundCue.GAME_OVER);
 	}
 
 	/**
 	 * Handles the event when the UserPlane is hit, playing a sound.
 	 */
 	public void handleHit() {
-		playSound(hitSound);
+		playSound(SoundCue.USER_HIT);
 	}
 
 	/**
@@ -216,8 +205,8 @@ public class UserPlane extends FighterPlane {
 	 * @param winImage Display the winImage object
 	 */
 	public void handleWin(WinImage winImage) {
-		logger.info("You win! Playing win sound.");
-		playSound(youWinSound);
+		LOG.info("You win! Playing win sound.");
+		playSound(SoundCue.YOU_WIN);
 		winImage.showWinImage();
 	}
 
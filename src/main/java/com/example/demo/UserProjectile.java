@@ -5,9 +5,13 @@ package com.example.demo;
  */
 public class UserProjectile extends Projectile {
 
-	private static final String IMAGE_NAME = "userfire.png";
-	private static final int IMAGE_HEIGHT = 30;
+	static final String IMAGE_NAME = "userfire.png";
+	static final int IMAGE_HEIGHT = 30;
 	private static final int HORIZONTAL_VELOCITY = 15;
+	private static final int X_POSITION_OFFSET = 30;
+	private static final int Y_POSITION_OFFSET = 60;
+	private static final ProjectilePool<UserProjectile> POOL =
+			new ProjectilePool<>(GameConstants.PROJECTILE_POOL_CAPACITY, () -> new UserProjectile(0, 0));
 
 	/**
 	 * Constructor for the UserProjectile class.
@@ -15,7 +19,27 @@ public class UserProjectile extends Projectile {
 	 * @param initialYPos the initial y position of the projectile
 	 */
 	public UserProjectile(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos + 30, initialYPos + 60);
+		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos + X_POSITION_OFFSET, initialYPos + Y_POSITION_OFFSET);
+	}
+
+	/**
+	 * Returns a projectile from the pool placed as if constructed at the given position.
+	 * @param initialXPos the initial x position of the projectile
+	 * @param initialYPos the initial y position of the projectile
+	 * @return a user projectile ready to be fired
+	 */
+	public static UserProjectile acquire(double initialXPos, double initialYPos) {
+		UserProjectile projectile = POOL.acquire();
+		projectile.reset(initialXPos + X_POSITION_OFFSET, initialYPos + Y_POSITION_OFFSET);
+		return projectile;
+	}
+
+	/**
+	 * Returns the pool of user projectiles.
+	 * @return the pool
+	 */
+	public static ProjectilePool<UserProjectile> getPool() {
+		return POOL;
 	}
 
 	/**
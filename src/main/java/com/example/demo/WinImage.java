@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -9,9 +8,11 @@ import javafx.scene.image.ImageView;
  */
 public class WinImage extends ImageView {
 
-	private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png";
-	private static final int HEIGHT = 400;
-	private static final int WIDTH = 500;
+	static final String IMAGE_NAME = "/com/example/demo/images/youwin.png";
+	static final int HEIGHT = 400;
+	static final int WIDTH = 500;
+
+	private static final GameLog LOG = GameLog.get(WinImage.class);
 
 	/**
 	 * Constructs a WinImage object with the specified x and y positions.
@@ -29,15 +30,12 @@ public class WinImage extends ImageView {
 	}
 
 	/**
-	 * Initializes the image by loading it from the specified resource path.
-	 * If the resource is not found, an error message is printed to the standard error stream.
+	 * Initializes the image by loading it from the specified resource path, decoded at its display size.
+	 * If the resource is not found, a warning is logged through {@link GameLog}.
 	 */
 	private void initializeImage() {
-		var resource = getClass().getResource(IMAGE_NAME);
-		if (resource != null) {
-			setImage(new Image(resource.toExternalForm()));
-		} else {
-			System.err.println("Resource not found: " + IMAGE_NAME);
+		if (!SpriteAtlas.get().show(this, IMAGE_NAME, WIDTH, HEIGHT)) {
+			LOG.warning("Resource not found: {0}", IMAGE_NAME);
 		}
 	}
 
@@ -2,8 +2,10 @@ package com.example.demo.controller;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.logging.Level;
 
 import com.example.demo.*;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
@@ -14,9 +16,14 @@ import javafx.stage.Stage;
  */
 public class Controller implements PropertyChangeListener {
 
+	private static final GameLog LOG = GameLog.get(Controller.class);
+
 	private final Stage stage;
 	private final HeartDisplay heartDisplay;
+	private final GameTutorial tutorial;
 	private LevelParent currentLevel;
+	private LevelParent preparedLevel;
+	private String preparedLevelName;
 	private boolean isPaused;
 
 	/**
@@ -27,7 +34,10 @@ public class Controller implements PropertyChangeListener {
 	public Controller(Stage stage) {
 		this.stage = stage;
 		this.heartDisplay = new HeartDisplay(stage.getHeight(), stage.getWidth(), 5);
+		this.tutorial = new GameTutorial(this);
 		this.isPaused = false;
+		tutorial.preload();
+		GameMetrics.register(this);
 	}
 
 	/**
@@ -46,26 +56,85 @@ public class Controller implements PropertyChangeListener {
 	}
 
 	/**
-	 * Transitions to the specified level.
+	 * Transitions to the specified level. If that level has already been prepared, it is
+	 * shown as is; otherwise it is built now and any level prepared in its place is discarded.
+	 * The transition is recorded as a {@link LevelTransitionEvent} when Flight Recorder is on.
 	 *
 	 * @param className        the name of the level class to transition to
 	 * @throws CustomException if there is an error transitioning to the level
 	 */
 	private void goToLevel(String className) throws CustomException {
+		LevelTransitionEvent event = new LevelTransitionEvent();
+		event.begin();
 		if (currentLevel != null) {
-			currentLevel.removePropertyChangeListener(this);
+			event.fromLevel = currentLevel.getClass().getSimpleName();
+			currentLevel.dispose();
+			currentLevel = null;
+			isPaused = false;
 		}
 
 		try {
-			LevelParent myLevel = createLevelInstance(className);
+			event.prepared = className.equals(preparedLevelName);
+			LevelParent myLevel = takePreparedLevel(className);
 			setupScene(myLevel);
 			myLevel.startGame();
 			currentLevel = myLevel;
+			event.toLevel = myLevel.getClass().getSimpleName();
+			event.commit();
 		} catch (Exception e) {
 			handleLevelTransitionException(className, e);
 		}
 	}
 
+	/**
+	 * Returns the prepared level if it is the specified one, or builds the level otherwise.
+	 *
+	 * @param className the name of the level class
+	 * @return an instance of the specified level class
+	 */
+	private LevelParent takePreparedLevel(String className) {
+		if (className.equals(preparedLevelName)) {
+			LevelParent level = preparedLevel;
+			preparedLevel = null;
+			preparedLevelName = null;
+			return level;
+		}
+		discardPreparedLevel();
+		return createLevelInstance(className);
+	}
+
+	/**
+	 * Builds the specified level ahead of its transition, off-scene, so that the transition
+	 * only has to swap scenes. Nothing is done if the announcing level is no longer shown
+	 * or the level has already been prepared.
+	 *
+	 * @param source    the level that announced its end
+	 * @param className the name of the level class to prepare
+	 */
+	private void prepareLevel(LevelParent source, String className) {
+		if (source != currentLevel || className.equals(preparedLevelName)) {
+			return;
+		}
+		discardPreparedLevel();
+		try {
+			preparedLevel = createLevelInstance(className);
+			preparedLevelName = className;
+		} catch (RuntimeException e) {
+			LOG.log(Level.WARNING, "Could not prepare level: " + className, e);
+		}
+	}
+
+	/**
+	 * Discards the prepared level, if any, leaving the sounds of the shown level playing.
+	 */
+	private void discardPreparedLevel() {
+		if (preparedLevel != null) {
+			preparedLevel.discard();
+			preparedLevel = null;
+			preparedLevelName = null;
+		}
+	}
+
 	/**
 	 * Creates an instance of the specified level class.
 	 *
@@ -112,9 +181,24 @@ public class Controller implements PropertyChangeListener {
 	public void propertyChange(PropertyChangeEvent event) {
 		if ("levelChange".equals(event.getPropertyName())) {
 			handleLevelChangeEvent(event);
+		} else if ("levelNearingEnd".equals(event.getPropertyName())) {
+			handleLevelNearingEndEvent(event);
 		}
 	}
 
+	/**
+	 * Handles level nearing end events. The assets are preloaded in the background, and the
+	 * next level is built in a later pulse rather than in the frame that announced it.
+	 *
+	 * @param event the property change event
+	 */
+	private void handleLevelNearingEndEvent(PropertyChangeEvent event) {
+		LevelParent source = (LevelParent) event.getSource();
+		String nextLevel = (String) event.getNewValue();
+		AssetPreloader.start(null);
+		Platform.runLater(() -> prepareLevel(source, nextLevel));
+	}
+
 	/**
 	 * Handles level change events.
 	 *
@@ -122,7 +206,7 @@ public class Controller implements PropertyChangeListener {
 	 */
 	private void handleLevelChangeEvent(PropertyChangeEvent event) {
 		String newLevel = (String) event.getNewValue();
-		System.out.println("Handling level change event. Transitioning to: " + newLevel);
+		LOG.info("Handling level change event. Transitioning to: {0}", newLevel);
 		try {
 			goToLevel(newLevel);
 		} catch (CustomException e) {
@@ -142,6 +226,42 @@ public class Controller implements PropertyChangeListener {
 		alert.show();
 	}
 
+	/**
+	 * Returns the level currently shown.
+	 *
+	 * @return the current level, or null if no level is shown
+	 */
+	public LevelParent getCurrentLevel() {
+		return currentLevel;
+	}
+
+	/**
+	 * Returns the tutorial window, shared by every level of the game.
+	 *
+	 * @return the game tutorial
+	 */
+	public GameTutorial getTutorial() {
+		return tutorial;
+	}
+
+	/**
+	 * Returns the level built ahead of its transition.
+	 *
+	 * @return the prepared level, or null if no level is prepared
+	 */
+	public LevelParent getPreparedLevel() {
+		return preparedLevel;
+	}
+
+	/**
+	 * Checks whether the game is paused.
+	 *
+	 * @return true if the current level is paused, false otherwise
+	 */
+	public boolean isPaused() {
+		return isPaused;
+	}
+
 	/**
 	 * Pauses the game.
 	 */
@@ -0,0 +1,476 @@
+package com.example.demo.controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.logging.Level;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.example.demo.*;
+
+/**
+ * The {@code GameMetrics} class implements {@link GameMetricsMXBean} on top of the game's
+ * controller and the statistics kept by the engine. Only one instance is registered at a time,
+ * for the most recently created controller, which is held weakly so that monitoring never keeps
+ * a finished game alive. Attributes are read from the JMX thread; level counts may lag one
+ * simulation step behind.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+
+	/**
+	 * The name the metrics are registered under.
+	 */
+	public static final String OBJECT_NAME = "com.example.demo:type=GameMetrics";
+
+	private static final GameLog LOG = GameLog.get(GameMetrics.class);
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	private final WeakReference<Controller> controller;
+
+	/**
+	 * Constructs metrics for a controller.
+	 *
+	 * @param controller the controller whose game is monitored
+	 */
+	GameMetrics(Controller controller) {
+		this.controller = new WeakReference<>(controller);
+	}
+
+	/**
+	 * Registers the metrics of a controller with the platform MBean server, replacing the
+	 * metrics of any earlier controller. Failures are logged and otherwise ignored, since the
+	 * game runs fine without monitoring.
+	 *
+	 * @param controller the controller whose game is monitored
+	 */
+	static synchronized void register(Controller controller) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(new GameMetrics(controller), name);
+		} catch (JMException | SecurityException e) {
+			LOG.log(Level.WARNING, "Could not register game metrics", e);
+		}
+	}
+
+	/**
+	 * Returns the level currently shown.
+	 *
+	 * @return the current level, or null if no level is shown or the controller is gone
+	 */
+	private LevelParent currentLevel() {
+		Controller current = controller.get();
+		return current == null ? null : current.getCurrentLevel();
+	}
+
+	/**
+	 * Returns the step histogram of the current level's class.
+	 *
+	 * @return the histogram, or null if no level is shown
+	 */
+	private LatencyHistogram stepHistogram() {
+		LevelParent level = currentLevel();
+		return level == null ? null : level.getTimings().getHistogram(PhaseTimings.Phase.STEP);
+	}
+
+	/**
+	 * Returns the simple class name of the level currently shown.
+	 *
+	 * @return the current level, or an empty string if no level is shown
+	 */
+	@Override
+	public String getCurrentLevel() {
+		LevelParent level = currentLevel();
+		return level == null ? "" : level.getClass().getSimpleName();
+	}
+
+	/**
+	 * Checks whether the game is paused.
+	 *
+	 * @return true if the game is paused, false otherwise
+	 */
+	@Override
+	public boolean isPaused() {
+		Controller current = controller.get();
+		return current != null && current.isPaused();
+	}
+
+	/**
+	 * Returns the number of live enemy units of the current level.
+	 *
+	 * @return the number of enemy units
+	 */
+	@Override
+	public int getEnemyCount() {
+		LevelParent level = currentLevel();
+		return level == null ? 0 : level.getEnemyCount();
+	}
+
+	/**
+	 * Returns the number of live user projectiles of the current level.
+	 *
+	 * @return the number of user projectiles
+	 */
+	@Override
+	public int getUserProjectileCount() {
+		LevelParent level = currentLevel();
+		return level == null ? 0 : level.getUserProjectileCount();
+	}
+
+	/**
+	 * Returns the number of live enemy projectiles of the current level.
+	 *
+	 * @return the number of enemy projectiles
+	 */
+	@Override
+	public int getEnemyProjectileCount() {
+		LevelParent level = currentLevel();
+		return level == null ? 0 : level.getEnemyProjectileCount();
+	}
+
+	/**
+	 * Returns the number of simulation steps timed for the current level's class.
+	 *
+	 * @return the number of steps
+	 */
+	@Override
+	public long getStepCount() {
+		LatencyHistogram histogram = stepHistogram();
+		return histogram == null ? 0 : histogram.getCount();
+	}
+
+	/**
+	 * Returns the mean duration of a simulation step of the current level's class.
+	 *
+	 * @return the mean step time, in milliseconds
+	 */
+	@Override
+	public double getStepMeanMillis() {
+		LatencyHistogram histogram = stepHistogram();
+		return histogram == null ? 0 : histogram.getMean() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Returns the median duration of a simulation step of the current level's class.
+	 *
+	 * @return the 50th percentile step time, in milliseconds
+	 */
+	@Override
+	public double getStepP50Millis() {
+		LatencyHistogram histogram = stepHistogram();
+		return histogram == null ? 0 : histogram.getP50() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Returns the 99th percentile duration of a simulation step of the current level's class.
+	 *
+	 * @return the 99th percentile step time, in milliseconds
+	 */
+	@Override
+	public double getStepP99Millis() {
+		LatencyHistogram histogram = stepHistogram();
+		return histogram == null ? 0 : histogram.getP99() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Returns the longest simulation step of the current level's class.
+	 *
+	 * @return the maximum step time, in milliseconds
+	 */
+	@Override
+	public double getStepMaxMillis() {
+		LatencyHistogram histogram = stepHistogram();
+		return histogram == null ? 0 : histogram.getMax() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Returns the per-phase timings of every level class that has run.
+	 *
+	 * @return one summary block per level
+	 */
+	@Override
+	public String getPhaseTimings() {
+		StringBuilder builder = new StringBuilder();
+		for (PhaseTimings timings : PhaseTimings.getAll().values()) {
+			builder.append(timings.summary()).append(System.lineSeparator());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the number of enemy projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	@Override
+	public long getEnemyProjectilePoolHits() {
+		return EnemyProjectile.getPool().getHits();
+	}
+
+	/**
+	 * Returns the number of enemy projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	@Override
+	public long getEnemyProjectilePoolMisses() {
+		return EnemyProjectile.getPool().getMisses();
+	}
+
+	/**
+	 * Returns the number of boss projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	@Override
+	public long getBossProjectilePoolHits() {
+		return BossProjectile.getPool().getHits();
+	}
+
+	/**
+	 * Returns the number of boss projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	@Override
+	public long getBossProjectilePoolMisses() {
+		return BossProjectile.getPool().getMisses();
+	}
+
+	/**
+	 * Returns the number of released enemy projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	@Override
+	public long getEnemyProjectilePoolDiscards() {
+		return EnemyProjectile.getPool().getDiscards();
+	}
+
+	/**
+	 * Returns the number of released boss projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	@Override
+	public long getBossProjectilePoolDiscards() {
+		return BossProjectile.getPool().getDiscards();
+	}
+
+	/**
+	 * Returns the number of user projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	@Override
+	public long getUserProjectilePoolHits() {
+		return UserProjectile.getPool().getHits();
+	}
+
+	/**
+	 * Returns the number of user projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	@Override
+	public long getUserProjectilePoolMisses() {
+		return UserProjectile.getPool().getMisses();
+	}
+
+	/**
+	 * Returns the number of released user projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	@Override
+	public long getUserProjectilePoolDiscards() {
+		return UserProjectile.getPool().getDiscards();
+	}
+
+	/**
+	 * Returns the number of images in the image cache.
+	 *
+	 * @return the number of cached images
+	 */
+	@Override
+	public int getImageCacheSize() {
+		return ImageCache.size();
+	}
+
+	/**
+	 * Returns the decoded size of the cached images.
+	 *
+	 * @return the memory in use, in bytes
+	 */
+	@Override
+	public long getImageCacheUsedBytes() {
+		return ImageCache.getUsedBytes();
+	}
+
+	/**
+	 * Returns the number of image requests served from the cache.
+	 *
+	 * @return the cache hits
+	 */
+	@Override
+	public long getImageCacheHits() {
+		return ImageCache.getHitCount();
+	}
+
+	/**
+	 * Returns the number of images decoded.
+	 *
+	 * @return the decodes
+	 */
+	@Override
+	public long getImageCacheDecodes() {
+		return ImageCache.getDecodeCount();
+	}
+
+	/**
+	 * Returns the number of images evicted from the cache.
+	 *
+	 * @return the evictions
+	 */
+	@Override
+	public long getImageCacheEvictions() {
+		return ImageCache.getEvictionCount();
+	}
+
+	/**
+	 * Returns the number of distinct sounds loaded.
+	 *
+	 * @return the number of loaded sounds
+	 */
+	@Override
+	public int getLoadedSoundCount() {
+		return SoundEffects.getLoadedCount();
+	}
+
+	/**
+	 * Returns the number of sound cues played by the mixer.
+	 *
+	 * @return the played cues
+	 */
+	@Override
+	public long getPlayedSoundCount() {
+		return AudioMixer.get().getPlayedCount();
+	}
+
+	/**
+	 * Returns the number of sound cues dropped by the mixer, whether coalesced, throttled or
+	 * voice-limited.
+	 *
+	 * @return the dropped cues
+	 */
+	@Override
+	public long getDroppedSoundCount() {
+		AudioMixer mixer = AudioMixer.get();
+		return mixer.getCoalescedCount() + mixer.getThrottledCount() + mixer.getVoiceLimitedCount();
+	}
+
+	/**
+	 * Returns the number of times the mixer stopped a lower-priority cue to free a voice.
+	 *
+	 * @return the stolen voices
+	 */
+	@Override
+	public long getStolenVoiceCount() {
+		return AudioMixer.get().getStolenCount();
+	}
+
+	/**
+	 * Returns the minimum time between two enemy spawns.
+	 *
+	 * @return the spawn interval, in milliseconds
+	 */
+	@Override
+	public long getSpawnIntervalMillis() {
+		return GameSettings.getSpawnIntervalMillis();
+	}
+
+	/**
+	 * Sets the minimum time between two enemy spawns.
+	 *
+	 * @param millis the spawn interval, in milliseconds
+	 */
+	@Override
+	public void setSpawnIntervalMillis(long millis) {
+		GameSettings.setSpawnIntervalMillis(millis);
+	}
+
+	/**
+	 * Returns the probability that an enemy plane fires during a reference simulation step.
+	 *
+	 * @return the enemy fire rate
+	 */
+	@Override
+	public double getEnemyFireRate() {
+		return GameSettings.getEnemyFireRate();
+	}
+
+	/**
+	 * Sets the probability that an enemy plane fires during a reference simulation step.
+	 *
+	 * @param rate the enemy fire rate, between 0 and 1
+	 */
+	@Override
+	public void setEnemyFireRate(double rate) {
+		GameSettings.setEnemyFireRate(rate);
+	}
+
+	/**
+	 * Returns the probability that the boss fires during a reference simulation step.
+	 *
+	 * @return the boss fire rate
+	 */
+	@Override
+	public double getBossFireRate() {
+		return GameSettings.getBossFireRate();
+	}
+
+	/**
+	 * Sets the probability that the boss fires during a reference simulation step.
+	 *
+	 * @param rate the boss fire rate, between 0 and 1
+	 */
+	@Override
+	public void setBossFireRate(double rate) {
+		GameSettings.setBossFireRate(rate);
+	}
+
+	/**
+	 * Returns how far outside the screen projectiles and bombs may travel before they are culled.
+	 *
+	 * @return the cull margin, in pixels
+	 */
+	@Override
+	public double getCullMargin() {
+		return GameSettings.getCullMargin();
+	}
+
+	/**
+	 * Sets how far outside the screen projectiles and bombs may travel before they are culled.
+	 *
+	 * @param margin the cull margin, in pixels
+	 */
+	@Override
+	public void setCullMargin(double margin) {
+		GameSettings.setCullMargin(margin);
+	}
+
+	/**
+	 * Forgets the phase timings of every level.
+	 */
+	@Override
+	public void resetTimings() {
+		for (PhaseTimings timings : PhaseTimings.getAll().values()) {
+			timings.reset();
+		}
+	}
+
+}
@@ -0,0 +1,276 @@
+package com.example.demo.controller;
+
+/**
+ * The management interface of the running game, registered with the platform MBean server as
+ * {@value GameMetrics#OBJECT_NAME}. It exposes the current level, live actor counts, simulation
+ * step timings, pool, cache and mixer statistics, and lets the gameplay settings of
+ * {@link com.example.demo.GameSettings} be tuned while the game runs, for instance from JConsole.
+ */
+public interface GameMetricsMXBean {
+
+	/**
+	 * Returns the simple class name of the level currently shown.
+	 *
+	 * @return the current level, or an empty string if no level is shown
+	 */
+	String getCurrentLevel();
+
+	/**
+	 * Checks whether the game is paused.
+	 *
+	 * @return true if the game is paused, false otherwise
+	 */
+	boolean isPaused();
+
+	/**
+	 * Returns the number of live enemy units of the current level.
+	 *
+	 * @return the number of enemy units
+	 */
+	int getEnemyCount();
+
+	/**
+	 * Returns the number of live user projectiles of the current level.
+	 *
+	 * @return the number of user projectiles
+	 */
+	int getUserProjectileCount();
+
+	/**
+	 * Returns the number of live enemy projectiles of the current level.
+	 *
+	 * @return the number of enemy projectiles
+	 */
+	int getEnemyProjectileCount();
+
+	/**
+	 * Returns the number of simulation steps timed for the current level's class.
+	 *
+	 * @return the number of steps
+	 */
+	long getStepCount();
+
+	/**
+	 * Returns the mean duration of a simulation step of the current level's class.
+	 *
+	 * @return the mean step time, in milliseconds
+	 */
+	double getStepMeanMillis();
+
+	/**
+	 * Returns the median duration of a simulation step of the current level's class.
+	 *
+	 * @return the 50th percentile step time, in milliseconds
+	 */
+	double getStepP50Millis();
+
+	/**
+	 * Returns the 99th percentile duration of a simulation step of the current level's class.
+	 *
+	 * @return the 99th percentile step time, in milliseconds
+	 */
+	double getStepP99Millis();
+
+	/**
+	 * Returns the longest simulation step of the current level's class.
+	 *
+	 * @return the maximum step time, in milliseconds
+	 */
+	double getStepMaxMillis();
+
+	/**
+	 * Returns the per-phase timings of every level class that has run.
+	 *
+	 * @return one summary block per level
+	 */
+	String getPhaseTimings();
+
+	/**
+	 * Returns the number of enemy projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	long getEnemyProjectilePoolHits();
+
+	/**
+	 * Returns the number of enemy projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	long getEnemyProjectilePoolMisses();
+
+	/**
+	 * Returns the number of boss projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	long getBossProjectilePoolHits();
+
+	/**
+	 * Returns the number of boss projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	long getBossProjectilePoolMisses();
+
+	/**
+	 * Returns the number of released enemy projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	long getEnemyProjectilePoolDiscards();
+
+	/**
+	 * Returns the number of released boss projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	long getBossProjectilePoolDiscards();
+
+	/**
+	 * Returns the number of user projectiles served from their pool.
+	 *
+	 * @return the pool hits
+	 */
+	long getUserProjectilePoolHits();
+
+	/**
+	 * Returns the number of user projectiles created because their pool was empty.
+	 *
+	 * @return the pool misses
+	 */
+	long getUserProjectilePoolMisses();
+
+	/**
+	 * Returns the number of released user projectiles dropped because their pool was full.
+	 *
+	 * @return the pool discards
+	 */
+	long getUserProjectilePoolDiscards();
+
+	/**
+	 * Returns the number of images in the image cache.
+	 *
+	 * @return the number of cached images
+	 */
+	int getImageCacheSize();
+
+	/**
+	 * Returns the decoded size of the cached images.
+	 *
+	 * @return the memory in use, in bytes
+	 */
+	long getImageCacheUsedBytes();
+
+	/**
+	 * Returns the number of image requests served from the cache.
+	 *
+	 * @return the cache hits
+	 */
+	long getImageCacheHits();
+
+	/**
+	 * Returns the number of images decoded.
+	 *
+	 * @return the decodes
+	 */
+	long getImageCacheDecodes();
+
+	/**
+	 * Returns the number of images evicted from the cache.
+	 *
+	 * @return the evictions
+	 */
+	long getImageCacheEvictions();
+
+	/**
+	 * Returns the number of distinct sounds loaded.
+	 *
+	 * @return the number of loaded sounds
+	 */
+	int getLoadedSoundCount();
+
+	/**
+	 * Returns the number of sound cues played by the mixer.
+	 *
+	 * @return the played cues
+	 */
+	long getPlayedSoundCount();
+
+	/**
+	 * Returns the number of sound cues dropped by the mixer, whether coalesced, throttled or
+	 * voice-limited.
+	 *
+	 * @return the dropped cues
+	 */
+	long getDroppedSoundCount();
+
+	/**
+	 * Returns the number of times the mixer stopped a lower-priority cue to free a voice.
+	 *
+	 * @return the stolen voices
+	 */
+	long getStolenVoiceCount();
+
+	/**
+	 * Returns the minimum time between two enemy spawns.
+	 *
+	 * @return the spawn interval, in milliseconds
+	 */
+	long getSpawnIntervalMillis();
+
+	/**
+	 * Sets the minimum time between two enemy spawns.
+	 *
+	 * @param millis the spawn interval, in milliseconds
+	 */
+	void setSpawnIntervalMillis(long millis);
+
+	/**
+	 * Returns the probability that an enemy plane fires during a reference simulation step.
+	 *
+	 * @return the enemy fire rate
+	 */
+	double getEnemyFireRate();
+
+	/**
+	 * Sets the probability that an enemy plane fires during a reference simulation step.
+	 *
+	 * @param rate the enemy fire rate, between 0 and 1
+	 */
+	void setEnemyFireRate(double rate);
+
+	/**
+	 * Returns the probability that the boss fires during a reference simulation step.
+	 *
+	 * @return the boss fire rate
+	 */
+	double getBossFireRate();
+
+	/**
+	 * Sets the probability that the boss fires during a reference simulation step.
+	 *
+	 * @param rate the boss fire rate, between 0 and 1
+	 */
+	void setBossFireRate(double rate);
+
+	/**
+	 * Returns how far outside the screen projectiles and bombs may travel before they are culled.
+	 *
+	 * @return the cull margin, in pixels
+	 */
+	double getCullMargin();
+
+	/**
+	 * Sets how far outside the screen projectiles and bombs may travel before they are culled.
+	 *
+	 * @param margin the cull margin, in pixels
+	 */
+	void setCullMargin(double margin);
+
+	/**
+	 * Forgets the phase timings of every level.
+	 */
+	void resetTimings();
+
+}
@@ -1,12 +1,11 @@
 package com.example.demo.controller;
 
+import com.example.demo.GameLog;
 import javafx.application.Application;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.InputStream;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Main class that launches the game
@@ -16,7 +15,7 @@ public class Main extends Application {
 	private static final int SCREEN_WIDTH = 1300;
 	private static final int SCREEN_HEIGHT = 750;
 	private static final String TITLE = "Sky Battle";
-	private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+	private static final GameLog LOG = GameLog.get(Main.class);
 
 	/**
 	 * Starts the JavaFX application
@@ -36,7 +35,7 @@ public class Main extends Application {
 			if (iconStream != null) {
 				stage.getIcons().add(new Image(iconStream));
 			} else {
-				LOGGER.log(Level.WARNING, "Icon resource not found: /com/example/demo/images/skybattlefavicon.png");
+				LOG.warning("Icon resource not found: /com/example/demo/images/skybattlefavicon.png");
 			}
 
 			MainMenu mainMenu = new MainMenu(stage);
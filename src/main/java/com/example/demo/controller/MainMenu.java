@@ -1,15 +1,17 @@
 package com.example.demo.controller;
 
-import com.example.demo.SoundEffects;
+import com.example.demo.AssetPreloader;
+import com.example.demo.AudioMixer;
+import com.example.demo.SoundCue;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
-import javafx.scene.media.AudioClip;
 import javafx.stage.Stage;
 
 import java.io.InputStream;
@@ -20,8 +22,9 @@ import java.io.InputStream;
 public class MainMenu {
 
     private static final double BUTTON_MARGIN_BOTTOM = 50.0;
+    private static final double LOADING_MARGIN_BOTTOM = 20.0;
     private final Stage stage;
-    private AudioClip launchGameSound;
+    private final Label loadingLabel;
 
     /**
      * Constructor for the main menu.
@@ -30,6 +33,7 @@ public class MainMenu {
      */
     public MainMenu(Stage stage) {
         this.stage = stage;
+        this.loadingLabel = new Label();
         initializeSounds();
     }
 
@@ -42,6 +46,18 @@ public class MainMenu {
         stage.setScene(scene);
         stage.show();
         playGameLaunchSound();
+        AssetPreloader.start(this::updateLoadingProgress);
+    }
+
+    /**
+     * Shows the progress of the asset preload, and hides it once every asset is loaded.
+     *
+     * @param loaded the number of assets loaded so far
+     * @param total  the number of assets to load
+     */
+    private void updateLoadingProgress(int loaded, int total) {
+        loadingLabel.setText("Loading assets " + loaded + "/" + total);
+        loadingLabel.setVisible(loaded < total);
     }
 
     /**
@@ -54,7 +70,9 @@ public class MainMenu {
         ImageView backgroundImageView = createBackgroundImageView();
 
         StackPane layout = new StackPane();
-        layout.getChildren().addAll(backgroundImageView, startButton);
+        StackPane.setAlignment(loadingLabel, Pos.BOTTOM_CENTER);
+        StackPane.setMargin(loadingLabel, new Insets(0, 0, LOADING_MARGIN_BOTTOM, 0));
+        layout.getChildren().addAll(backgroundImageView, startButton, loadingLabel);
         return layout;
     }
 
@@ -106,25 +124,21 @@ public class MainMenu {
      * Initializes the sounds for the main menu.
      */
     private void initializeSounds() {
-        this.launchGameSound = SoundEffects.loadSound("/com/example/demo/sounds/launchgame.wav", this.getClass());
+        AudioMixer.preload(SoundCue.LAUNCH_GAME);
     }
 
     /**
      * Plays the sound upon game launch.
      */
     private void playGameLaunchSound() {
-        if (launchGameSound != null) {
-            launchGameSound.play();
-        }
+        AudioMixer.get().play(SoundCue.LAUNCH_GAME);
     }
 
     /**
      * Stops the game launch sound.
      */
     private void stopGameLaunchSound() {
-        if (launchGameSound != null) {
-            launchGameSound.stop();
-        }
+        AudioMixer.get().stop(SoundCue.LAUNCH_GAME);
     }
 
     /**
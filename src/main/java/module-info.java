@@ -1,6 +1,9 @@
 module com.example.demo {
     requires java.desktop;
     requires java.logging;
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.management;
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
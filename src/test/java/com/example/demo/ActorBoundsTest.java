@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorBoundsTest {
+
+    private ActorBounds bounds;
+    private ActorBounds others;
+
+    @BeforeEach
+    void setUp() {
+        bounds = new ActorBounds();
+        others = new ActorBounds();
+    }
+
+    @Test
+    void testAddReturnsSequentialIndices() {
+        assertEquals(0, bounds.add(0, 0, 10, 10));
+        assertEquals(1, bounds.add(20, 20, 30, 30));
+        assertEquals(2, bounds.size());
+        assertEquals(20, bounds.getMinX(1));
+        assertEquals(30, bounds.getMaxY(1));
+    }
+
+    @Test
+    void testIntersects() {
+        bounds.add(0, 0, 10, 10);
+        others.add(5, 5, 15, 15);
+        others.add(11, 0, 20, 10);
+        assertTrue(bounds.intersects(0, others, 0));
+        assertFalse(bounds.intersects(0, others, 1));
+    }
+
+    @Test
+    void testTouchingEdgesIntersect() {
+        bounds.add(0, 0, 10, 10);
+        others.add(10, 10, 20, 20);
+        assertTrue(bounds.intersects(0, others, 0));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            bounds.add(i, i, i + 1, i + 1);
+        }
+        assertEquals(100, bounds.size());
+        assertEquals(99, bounds.getMinX(99));
+    }
+
+    @Test
+    void testClear() {
+        bounds.add(0, 0, 10, 10);
+        bounds.clear();
+        assertEquals(0, bounds.size());
+    }
+
+    @Test
+    void testSweptIntersectsCatchesTunnelling() {
+        bounds.add(100, 0, 110, 10, 100, 0);
+        others.add(50, 0, 52, 10);
+        assertFalse(bounds.intersects(0, others, 0));
+        assertTrue(bounds.sweptIntersects(0, others, 0));
+        assertEquals(0.4, bounds.getSweepEntryTime(), 1e-9);
+        assertEquals(0.52, bounds.getSweepExitTime(), 1e-9);
+    }
+
+    @Test
+    void testSweptIntersectsMissesParallelPath() {
+        bounds.add(100, 0, 110, 10, 100, 0);
+        others.add(50, 20, 52, 30);
+        assertFalse(bounds.sweptIntersects(0, others, 0));
+    }
+
+    @Test
+    void testSweptIntersectsUsesRelativeMotion() {
+        bounds.add(20, 0, 30, 10, 20, 0);
+        others.add(40, 0, 50, 10, 20, 0);
+        assertFalse(bounds.sweptIntersects(0, others, 0));
+    }
+
+    @Test
+    void testSweptBoxCoversPreviousPosition() {
+        bounds.add(100, 0, 110, 10, -15, 5);
+        assertEquals(100, bounds.getSweptMinX(0));
+        assertEquals(125, bounds.getSweptMaxX(0));
+        assertEquals(-5, bounds.getSweptMinY(0));
+        assertEquals(10, bounds.getSweptMaxY(0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorModelTest {
+
+    private ActorModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new ActorModel(100, 50, 40, 20);
+    }
+
+    @Test
+    void testMoveByTracksDisplacement() {
+        model.savePreviousPosition();
+        model.moveBy(10, -5);
+        assertEquals(110, model.getX());
+        assertEquals(45, model.getY());
+        assertEquals(10, model.getDisplacementX());
+        assertEquals(-5, model.getDisplacementY());
+    }
+
+    @Test
+    void testInterpolation() {
+        model.savePreviousPosition();
+        model.moveBy(20, 10);
+        assertEquals(100, model.getInterpolatedX(0));
+        assertEquals(110, model.getInterpolatedX(0.5));
+        assertEquals(60, model.getInterpolatedY(1));
+    }
+
+    @Test
+    void testTeleportIsNotMovement() {
+        model.teleport(300, 0);
+        assertEquals(0, model.getDisplacementX());
+        assertEquals(300, model.getInterpolatedX(0));
+    }
+
+    @Test
+    void testPublishBounds() {
+        ActorBounds bounds = new ActorBounds();
+        model.savePreviousPosition();
+        model.moveBy(0, 8);
+        int index = model.publishBounds(bounds);
+        assertEquals(100, bounds.getMinX(index));
+        assertEquals(58, bounds.getMinY(index));
+        assertEquals(140, bounds.getMaxX(index));
+        assertEquals(78, bounds.getMaxY(index));
+        assertEquals(8, bounds.getDisplacementY(index));
+    }
+
+    @Test
+    void testHealthAndDestroyedFlag() {
+        model.setHealth(3);
+        assertEquals(3, model.getHealth());
+        assertFalse(model.isDestroyed());
+        model.setDestroyed(true);
+        assertTrue(model.isDestroyed());
+    }
+}
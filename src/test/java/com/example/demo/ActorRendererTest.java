@@ -0,0 +1,137 @@
+package com.example.demo;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.CustomException;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorRendererTest extends ApplicationTest {
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+    }
+
+    @Test
+    void testNodeRendererAttachesAndDetachesSprites() {
+        Group root = new Group();
+        NodeActorRenderer renderer = new NodeActorRenderer(root);
+        ImageView first = sprite(10, 20);
+        ImageView second = sprite(30, 40);
+
+        renderer.beginFrame();
+        renderer.render(first);
+        renderer.render(second);
+        renderer.endFrame();
+        assertEquals(2, renderer.getRenderedCount());
+        assertSame(root, first.getParent());
+        assertSame(root, second.getParent());
+
+        renderer.remove(first);
+        assertSame(root, first.getParent(), "Removal is deferred to the next frame");
+        renderer.beginFrame();
+        renderer.render(second);
+        renderer.endFrame();
+        assertNull(first.getParent());
+        assertEquals(1, root.getChildren().size());
+        assertEquals(1, renderer.getRenderedCount());
+    }
+
+    @Test
+    void testCanvasRendererDrawsSpritesWithoutNodes() {
+        Group root = new Group(new ImageView(), new ImageView());
+        CanvasActorRenderer renderer = new CanvasActorRenderer(root, 1, 200, 100);
+        ImageView attached = sprite(10, 20);
+        ImageView hidden = sprite(100, 20);
+        hidden.setVisible(false);
+        root.getChildren().add(attached);
+
+        renderer.beginFrame();
+        renderer.render(attached);
+        renderer.render(sprite(50, 60));
+        renderer.render(hidden);
+        renderer.endFrame();
+
+        assertSame(renderer.getCanvas(), root.getChildren().get(1));
+        assertEquals(3, root.getChildren().size());
+        assertNull(attached.getParent(), "Sprites attached by level code are detached");
+        assertEquals(2, renderer.getRenderedCount());
+
+        renderer.dispose();
+        assertFalse(root.getChildren().contains(renderer.getCanvas()));
+    }
+
+    @Test
+    void testCanvasRendererDrawsAtSpritePosition() {
+        Group root = new Group();
+        CanvasActorRenderer renderer = new CanvasActorRenderer(root, 0, 100, 100);
+        ImageView sprite = sprite(20, 30);
+        sprite.setTranslateX(5);
+
+        Image[] snapshot = new Image[1];
+        interact(() -> {
+            renderer.beginFrame();
+            renderer.render(sprite);
+            renderer.endFrame();
+            snapshot[0] = renderer.getCanvas().snapshot(null, null);
+        });
+
+        assertEquals(Color.RED, snapshot[0].getPixelReader().getColor(30, 35));
+        assertNotEquals(Color.RED, snapshot[0].getPixelReader().getColor(10, 35));
+    }
+
+    @Test
+    void testLevelRunsOnCanvasRenderer() {
+        GameSettings.setRendererType(ActorRenderer.Type.CANVAS);
+        try {
+            interact(() -> {
+                Controller controller = new Controller(stage);
+                try {
+                    controller.launchGame(stage);
+                } catch (CustomException e) {
+                    fail(e);
+                }
+                controller.pauseGame();
+                LevelParent level = controller.getCurrentLevel();
+                level.renderFrame(1);
+
+                assertTrue(level.getRenderer() instanceof CanvasActorRenderer);
+                assertTrue(level.getRoot().getChildren().stream().anyMatch(node -> node instanceof Canvas));
+                assertNull(level.getUser().getParent(), "The user is drawn onto the canvas");
+                assertEquals(1, level.getRenderer().getRenderedCount());
+                assertTrue(level.getTimings().getHistogram(PhaseTimings.Phase.RENDER).getCount() > 0);
+                level.dispose();
+            });
+        } finally {
+            GameSettings.setRendererType(ActorRenderer.Type.NODE);
+        }
+    }
+
+    private static ImageView sprite(double x, double y) {
+        WritableImage image = new WritableImage(10, 10);
+        PixelWriter writer = image.getPixelWriter();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                writer.setColor(i, j, Color.RED);
+            }
+        }
+        ImageView sprite = new ImageView(image);
+        sprite.setLayoutX(x);
+        sprite.setLayoutY(y);
+        return sprite;
+    }
+}
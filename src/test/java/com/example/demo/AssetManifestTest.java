@@ -0,0 +1,53 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetManifestTest {
+
+    private static final Path RESOURCES = Path.of("src/main/resources/com/example/demo");
+
+    private static List<String> listFolder(String folder) throws IOException {
+        try (Stream<Path> files = Files.list(RESOURCES.resolve(folder))) {
+            return files.map(file -> "/com/example/demo/" + folder + "/" + file.getFileName())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Test
+    void testManifestListsEveryImage() throws IOException {
+        assertEquals(listFolder("images"), AssetManifest.getImagePaths().stream().sorted().toList());
+    }
+
+    @Test
+    void testManifestListsEverySound() throws IOException {
+        List<String> cuePaths = AssetManifest.getSoundCues().stream().map(SoundCue::getPath).sorted().toList();
+        assertEquals(listFolder("sounds"), cuePaths);
+    }
+
+    @Test
+    void testEveryImageHasAVariant() {
+        List<String> variantPaths = AssetManifest.getImageVariants().stream()
+                .map(AssetManifest.ImageVariant::getPath)
+                .distinct()
+                .sorted()
+                .toList();
+        assertEquals(AssetManifest.getImagePaths().stream().sorted().toList(), variantPaths);
+    }
+
+    @Test
+    void testEveryAssetExists() {
+        for (String path : AssetManifest.getImagePaths()) {
+            assertNotNull(AssetManifest.class.getResource(path), path);
+        }
+        assertEquals(AssetManifest.getImageVariants().size() + SoundCue.values().length, AssetManifest.size());
+    }
+}
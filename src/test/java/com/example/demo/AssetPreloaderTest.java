@@ -0,0 +1,46 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPreloaderTest extends ApplicationTest {
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    @Test
+    void testPreloadFillsCachesAndReportsProgress() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+        AssetPreloader.start((loaded, total) -> {
+            assertEquals(AssetManifest.size(), total);
+            progress.add(loaded);
+        }).get(30, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertTrue(AssetPreloader.isDone());
+        assertEquals(AssetManifest.size(), AssetPreloader.getLoadedCount());
+        assertFalse(progress.isEmpty());
+        assertEquals(AssetManifest.size(), progress.get(progress.size() - 1));
+        for (SoundCue cue : AssetManifest.getSoundCues()) {
+            assertTrue(SoundEffects.isLoaded(cue.getPath()), cue.name());
+        }
+
+        long decodes = ImageCache.getDecodeCount();
+        for (AssetManifest.ImageVariant image : AssetManifest.getImageVariants()) {
+            assertNotNull(ImageCache.get(image.getPath(), image.getWidth(), image.getHeight()), image.getPath());
+        }
+        new EnemyPlane(0, 0);
+        new Bomb(0, 0);
+        new HeartDisplay(0, 0, 1);
+        assertEquals(decodes, ImageCache.getDecodeCount());
+    }
+}
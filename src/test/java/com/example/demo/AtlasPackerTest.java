@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlasPackerTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void testEverySpriteIsPackedWithoutOverlap() throws IOException {
+        Map<String, Rectangle> regions = AtlasPacker.pack(AssetManifest.getAtlasSprites(), outputDirectory);
+        assertEquals(AssetManifest.getAtlasSprites().size(), regions.size());
+
+        BufferedImage atlas = ImageIO.read(outputDirectory.resolve(AtlasPacker.ATLAS_IMAGE).toFile());
+        List<Rectangle> placed = new ArrayList<>();
+        for (AssetManifest.ImageVariant sprite : AssetManifest.getAtlasSprites()) {
+            Rectangle region = regions.get(sprite.getKey());
+            assertNotNull(region, sprite.getKey());
+            assertTrue(new Rectangle(0, 0, atlas.getWidth(), atlas.getHeight()).contains(region));
+            if (sprite.getHeight() > 0) {
+                assertEquals(sprite.getHeight(), region.height, 1, sprite.getKey());
+            }
+            Rectangle padded = new Rectangle(region.x - 1, region.y - 1, region.width + 2, region.height + 2);
+            for (Rectangle other : placed) {
+                assertFalse(padded.intersects(other), sprite.getKey());
+            }
+            placed.add(region);
+        }
+    }
+
+    @Test
+    void testIndexListsEveryRegion() throws IOException {
+        Map<String, Rectangle> regions = AtlasPacker.pack(AssetManifest.getAtlasSprites(), outputDirectory);
+        List<String> lines = Files.readAllLines(outputDirectory.resolve(AtlasPacker.ATLAS_INDEX));
+        assertEquals(regions.size(), lines.size());
+        for (String line : lines) {
+            String[] fields = line.split("\t");
+            Rectangle region = regions.get(fields[0]);
+            assertEquals(new Rectangle(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                    Integer.parseInt(fields[3]), Integer.parseInt(fields[4])), region);
+        }
+    }
+
+    @Test
+    void testScalePreservesRatio() {
+        BufferedImage source = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage byHeight = AtlasPacker.scale(source, 0, 50);
+        assertEquals(100, byHeight.getWidth());
+        assertEquals(50, byHeight.getHeight());
+        BufferedImage byBox = AtlasPacker.scale(source, 40, 40);
+        assertEquals(40, byBox.getWidth());
+        assertEquals(20, byBox.getHeight());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioMixerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private List<String> log;
+    private long now;
+    private AudioMixer mixer;
+
+    @BeforeEach
+    void setUp() {
+        log = new ArrayList<>();
+        now = 1_000 * MILLI;
+        mixer = new AudioMixer(new AudioMixer.Output() {
+            @Override
+            public void play(SoundCue cue) {
+                log.add("play " + cue);
+            }
+
+            @Override
+            public void stop(SoundCue cue) {
+                log.add("stop " + cue);
+            }
+        }, () -> now);
+    }
+
+    private void advance(long millis) {
+        now += millis * MILLI;
+        mixer.beginTick();
+    }
+
+    @Test
+    void testSameCueInOneTickIsCoalesced() {
+        mixer.beginTick();
+        assertTrue(mixer.play(SoundCue.ENEMY_DESTROY));
+        assertFalse(mixer.play(SoundCue.ENEMY_DESTROY));
+        assertFalse(mixer.play(SoundCue.ENEMY_DESTROY));
+        assertTrue(mixer.play(SoundCue.USER_SHOOT));
+        assertEquals(List.of("play ENEMY_DESTROY", "play USER_SHOOT"), log);
+        assertEquals(2, mixer.getCoalescedCount());
+        assertEquals(2, mixer.getPlayedCount());
+    }
+
+    @Test
+    void testRetriggerIntervalThrottlesCue() {
+        assertTrue(mixer.play(SoundCue.BOMB_DROP));
+        advance(SoundCue.BOMB_DROP.getMinRetriggerMillis() - 1);
+        assertFalse(mixer.play(SoundCue.BOMB_DROP));
+        assertEquals(1, mixer.getThrottledCount());
+        advance(1);
+        assertTrue(mixer.play(SoundCue.BOMB_DROP));
+    }
+
+    @Test
+    void testVoiceLimitPerCue() {
+        for (int i = 0; i < SoundCue.USER_SHOOT.getMaxVoices(); i++) {
+            assertTrue(mixer.play(SoundCue.USER_SHOOT));
+            advance(SoundCue.USER_SHOOT.getMinRetriggerMillis());
+        }
+        assertFalse(mixer.play(SoundCue.USER_SHOOT));
+        assertEquals(1, mixer.getVoiceLimitedCount());
+        assertEquals(SoundCue.USER_SHOOT.getMaxVoices(), mixer.getActiveVoiceCount());
+
+        advance(SoundCue.USER_SHOOT.getVoiceMillis());
+        assertTrue(mixer.play(SoundCue.USER_SHOOT));
+    }
+
+    private void playRound(SoundCue... cues) {
+        mixer.beginTick();
+        for (SoundCue cue : cues) {
+            assertTrue(mixer.play(cue), cue.name());
+        }
+    }
+
+    @Test
+    void testHighPriorityCueStealsLowestPriorityVoice() {
+        playRound(SoundCue.BOMB_DROP, SoundCue.ENEMY_FIRE, SoundCue.FIREBALL,
+                SoundCue.ENEMY_DESTROY, SoundCue.USER_HIT, SoundCue.USER_SHOOT);
+        now += 100 * MILLI;
+        playRound(SoundCue.ENEMY_FIRE, SoundCue.FIREBALL, SoundCue.ENEMY_DESTROY,
+                SoundCue.USER_HIT, SoundCue.USER_SHOOT);
+        now += 100 * MILLI;
+        playRound(SoundCue.ENEMY_DESTROY);
+        assertEquals(12, mixer.getActiveVoiceCount());
+
+        log.clear();
+        playRound(SoundCue.GAME_OVER);
+        assertEquals(List.of("stop BOMB_DROP", "play GAME_OVER"), log);
+        assertEquals(1, mixer.getStolenCount());
+        assertEquals(12, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void testLowPriorityCueCannotStealWhenMixerIsFull() {
+        playRound(SoundCue.GAME_OVER, SoundCue.YOU_WIN, SoundCue.LAUNCH_GAME,
+                SoundCue.USER_HIT, SoundCue.USER_SHOOT, SoundCue.ENEMY_DESTROY);
+        now += 100 * MILLI;
+        playRound(SoundCue.USER_HIT, SoundCue.USER_SHOOT, SoundCue.ENEMY_DESTROY);
+        now += 100 * MILLI;
+        playRound(SoundCue.USER_SHOOT, SoundCue.ENEMY_DESTROY, SoundCue.FIREBALL);
+        assertEquals(12, mixer.getActiveVoiceCount());
+
+        mixer.beginTick();
+        assertFalse(mixer.play(SoundCue.BOMB_DROP));
+        assertEquals(0, mixer.getStolenCount());
+        assertEquals(1, mixer.getVoiceLimitedCount());
+    }
+
+    @Test
+    void testStopFreesVoices() {
+        mixer.play(SoundCue.FIREBALL);
+        assertEquals(1, mixer.getActiveVoiceCount());
+        mixer.stop(SoundCue.FIREBALL);
+        assertEquals(0, mixer.getActiveVoiceCount());
+        assertEquals(List.of("play FIREBALL", "stop FIREBALL"), log);
+    }
+}
@@ -20,6 +20,7 @@ class BombTest extends ApplicationTest {
     void testMoveDown() {
         double initialY = bomb.getLayoutY();
         bomb.moveDown();
+        bomb.syncView(1);
         assertNotEquals(initialY, bomb.getLayoutY());
     }
 
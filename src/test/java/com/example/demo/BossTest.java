@@ -29,6 +29,7 @@ class BossTest extends ApplicationTest {
     void testUpdatePosition() {
         double initialY = boss.getTranslateY();
         boss.updatePosition();
+        boss.syncView(1);
         assertNotEquals(initialY, boss.getTranslateY());
     }
 
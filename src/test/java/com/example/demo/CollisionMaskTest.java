@@ -0,0 +1,62 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionMaskTest {
+
+    private static CollisionMask filledMask(int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                mask.setOpaque(x, y);
+            }
+        }
+        return mask;
+    }
+
+    @Test
+    void testSetOpaque() {
+        CollisionMask mask = new CollisionMask(100, 10);
+        mask.setOpaque(70, 3);
+        assertTrue(mask.isOpaque(70, 3));
+        assertFalse(mask.isOpaque(69, 3));
+        assertFalse(mask.isOpaque(200, 3));
+    }
+
+    @Test
+    void testOverlappingOpaquePixels() {
+        CollisionMask first = filledMask(10, 10);
+        CollisionMask second = filledMask(10, 10);
+        assertTrue(CollisionMask.overlaps(first, 0, 0, second, 5, 5));
+        assertFalse(CollisionMask.overlaps(first, 0, 0, second, 10, 0));
+    }
+
+    @Test
+    void testTransparentCornersDoNotCollide() {
+        CollisionMask first = new CollisionMask(10, 10);
+        first.setOpaque(0, 0);
+        CollisionMask second = new CollisionMask(10, 10);
+        second.setOpaque(9, 9);
+        assertFalse(CollisionMask.overlaps(first, 0, 0, second, 5, 5));
+        assertTrue(CollisionMask.overlaps(first, 0, 0, second, -9, -9));
+    }
+
+    @Test
+    void testOverlapAcrossWordBoundaries() {
+        CollisionMask wide = new CollisionMask(200, 1);
+        wide.setOpaque(130, 0);
+        CollisionMask point = new CollisionMask(1, 1);
+        point.setOpaque(0, 0);
+        assertTrue(CollisionMask.overlaps(wide, 0, 0, point, 130, 0));
+        assertFalse(CollisionMask.overlaps(wide, 0, 0, point, 129, 0));
+        assertTrue(CollisionMask.overlaps(point, 130, 0, wide, 0, 0));
+        assertTrue(CollisionMask.overlaps(wide, -65, 0, point, 65, 0));
+    }
+
+    @Test
+    void testNullImageHasNoMask() {
+        assertNull(CollisionMask.forImage("missing.png", null, 50));
+    }
+}
@@ -33,4 +33,24 @@ class EnemyPlaneTest extends ApplicationTest {
         enemyPlane.updateActor();
         assertEquals(0, enemyPlane.getX(), "The X position should be updated correctly.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void movesAsFarPerSecondAtAnySimulationRate() {
+        EnemyPlane referencePlane = new EnemyPlane(100, 100);
+        EnemyPlane finePlane = new EnemyPlane(100, 100);
+        try {
+            referencePlane.updatePosition();
+            ActiveActor.setStepScale(1.0 / 3);
+            for (int i = 0; i < 3; i++) {
+                finePlane.updatePosition();
+            }
+            assertEquals(referencePlane.getModel().getX(), finePlane.getModel().getX(), 1e-9);
+            double fireRate = GameSettings.getEnemyFireRate();
+            double missedInThreeSteps = Math.pow(1 - ActiveActor.perStep(fireRate), 3);
+            assertEquals(1 - fireRate, missedInThreeSteps, 1e-9);
+            assertEquals(150, ActiveActor.toSteps(50));
+        } finally {
+            ActiveActor.setStepScale(1);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.CustomException;
+import javafx.stage.Stage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest extends ApplicationTest {
+
+    private static final String[] EVENTS = {
+            "com.example.demo.EnemySpawn",
+            "com.example.demo.Collision",
+            "com.example.demo.ActorRemoval",
+            "com.example.demo.BossShield",
+            "com.example.demo.LevelTransition"
+    };
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+    }
+
+    /**
+     * An enemy that stays silent when destroyed, since tests run without an audio device.
+     */
+    private static class SilentEnemyPlane extends EnemyPlane {
+
+        SilentEnemyPlane(double x, double y) {
+            super(x, y);
+        }
+
+        @Override
+        public void playEnemyDestroySound() {
+        }
+    }
+
+    private static List<RecordedEvent> record(Runnable game) throws Exception {
+        Path file = Files.createTempFile("skybattle", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            game.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    void testLevelEmitsGameEvents() throws Exception {
+        long spawnInterval = GameSettings.getSpawnIntervalMillis();
+        double enemyFireRate = GameSettings.getEnemyFireRate();
+        GameSettings.setSpawnIntervalMillis(Long.MAX_VALUE / 2);
+        GameSettings.setEnemyFireRate(0);
+        try {
+            List<RecordedEvent> events = record(() -> interact(() -> {
+                Controller controller = new Controller(stage);
+                try {
+                    controller.launchGame(stage);
+                } catch (CustomException e) {
+                    fail(e);
+                }
+                controller.pauseGame();
+                LevelParent level = controller.getCurrentLevel();
+                // The first enemy of a level spawns at once, so count it as spawned to keep
+                // the two added below alone.
+                level.setLastSpawnTime(level.getSimulationTime());
+                SilentEnemyPlane destroyed = new SilentEnemyPlane(1000, 100);
+                level.addEnemyUnit(destroyed);
+                level.addEnemyUnit(new SilentEnemyPlane(1000, 400));
+                destroyed.destroy();
+                level.simulate(1);
+                level.dispose();
+            }));
+
+            List<RecordedEvent> transitions = ofType(events, "com.example.demo.LevelTransition");
+            assertEquals(1, transitions.size());
+            assertEquals("LevelOne", transitions.get(0).getString("toLevel"));
+            assertNull(transitions.get(0).getString("fromLevel"));
+
+            List<RecordedEvent> spawns = ofType(events, "com.example.demo.EnemySpawn");
+            assertEquals(2, spawns.size());
+            assertEquals("LevelOne", spawns.get(0).getString("level"));
+            assertEquals(2, spawns.get(1).getInt("enemyCount"));
+
+            List<RecordedEvent> collisions = ofType(events, "com.example.demo.Collision");
+            assertFalse(collisions.isEmpty());
+            assertEquals("friendlyUnits/enemyUnits", collisions.get(0).getString("actorType"));
+            assertEquals(2, collisions.get(0).getInt("targets"));
+
+            List<RecordedEvent> removals = ofType(events, "com.example.demo.ActorRemoval");
+            assertEquals(1, removals.size());
+            assertEquals("SilentEnemyPlane", removals.get(0).getString("actorType"));
+            assertEquals(1, removals.get(0).getInt("removed"));
+            assertEquals(1, removals.get(0).getInt("remaining"));
+        } finally {
+            GameSettings.setSpawnIntervalMillis(spawnInterval);
+            GameSettings.setEnemyFireRate(enemyFireRate);
+        }
+    }
+
+    @Test
+    void testBossShieldEventSpansTheShield() throws Exception {
+        List<RecordedEvent> events = record(() -> interact(() -> {
+            Boss boss = new Boss();
+            for (int i = 0; i < 2000; i++) {
+                boss.updateActor();
+            }
+        }));
+
+        List<RecordedEvent> shields = ofType(events, "com.example.demo.BossShield");
+        assertFalse(shields.isEmpty());
+        assertTrue(shields.get(0).getInt("frames") > 0);
+        assertTrue(shields.get(0).getInt("bossHealth") > 0);
+        assertFalse(shields.get(0).getDuration().isNegative());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    private static final GameLog LOG = GameLog.get(GameLogTest.class);
+
+    private ByteArrayOutputStream captured;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        captured = new ByteArrayOutputStream();
+        previousLevel = GameSettings.getLogLevel();
+        GameLog.flush(1000);
+        GameLog.setOutput(new PrintStream(captured, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        GameLog.flush(1000);
+        GameLog.setOutput(System.out);
+        GameSettings.setLogLevel(previousLevel);
+    }
+
+    private List<String> lines() {
+        assertTrue(GameLog.flush(1000));
+        return Arrays.stream(captured.toString(StandardCharsets.UTF_8).split("\\R"))
+                .filter(line -> line.contains("GameLogTest:"))
+                .toList();
+    }
+
+    @Test
+    void testMessagesAreFormattedOnTheWriterThread() {
+        GameSettings.setLogLevel(Level.INFO);
+        LOG.info("Kill count: {0} of {1}", 3, 5);
+
+        List<String> lines = lines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).matches("\\d\\d:\\d\\d:\\d\\d\\.\\d{3} INFO \\[.+] GameLogTest: Kill count: 3 of 5"),
+                lines.get(0));
+    }
+
+    @Test
+    void testMessagesBelowTheLevelAreFilteredWithoutFormatting() {
+        GameSettings.setLogLevel(Level.INFO);
+        boolean[] called = new boolean[1];
+        LOG.log(Level.FINE, () -> {
+            called[0] = true;
+            return "never";
+        });
+        LOG.fine("filtered {0}", 1);
+        LOG.warning("kept");
+
+        List<String> lines = lines();
+        assertFalse(called[0]);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("WARNING"));
+        assertFalse(LOG.isLoggable(Level.FINE));
+
+        GameSettings.setLogLevel(Level.FINE);
+        assertTrue(LOG.isLoggable(Level.FINE));
+    }
+
+    @Test
+    void testRateLimitedLoggerReportsSuppressedMessages() throws InterruptedException {
+        GameSettings.setLogLevel(Level.INFO);
+        GameLog limited = LOG.rateLimited(200);
+        for (int i = 0; i < 10; i++) {
+            limited.info("tick {0}", i);
+        }
+        Thread.sleep(250);
+        limited.info("tick {0}", 10);
+
+        List<String> lines = lines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("tick 0"));
+        assertTrue(lines.get(1).endsWith("tick 10 (9 similar messages suppressed)"), lines.get(1));
+    }
+
+    @Test
+    void testExceptionsAndFaultyMessagesAreWritten() {
+        GameSettings.setLogLevel(Level.INFO);
+        LOG.log(Level.SEVERE, "Failed", new IllegalStateException("boom"));
+        LOG.log(Level.INFO, () -> {
+            throw new IllegalStateException("bad supplier");
+        });
+
+        List<String> lines = lines();
+        String output = captured.toString(StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(output.contains("java.lang.IllegalStateException: boom"));
+        assertTrue(lines.get(1).contains("could not format message"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopTest extends ApplicationTest {
+
+    private static final long STEP_NANOS = 50_000_000L;
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    @Test
+    void testFixedStepsAndInterpolation() {
+        AtomicInteger steps = new AtomicInteger();
+        List<Double> alphas = new ArrayList<>();
+        interact(() -> {
+            GameLoop loop = new GameLoop(20, steps::incrementAndGet, alphas::add);
+            loop.start();
+            loop.handle(0);
+            loop.handle(STEP_NANOS);
+            loop.handle(STEP_NANOS + STEP_NANOS / 2);
+            loop.stop();
+        });
+        assertEquals(1, steps.get());
+        assertEquals(3, alphas.size());
+        assertEquals(0.0, alphas.get(1), 1e-9);
+        assertEquals(0.5, alphas.get(2), 1e-9);
+    }
+
+    @Test
+    void testLongFramesAreClamped() {
+        AtomicInteger steps = new AtomicInteger();
+        interact(() -> {
+            GameLoop loop = new GameLoop(20, steps::incrementAndGet, alpha -> { });
+            loop.start();
+            loop.handle(0);
+            loop.handle(10 * 1_000_000_000L);
+            loop.stop();
+        });
+        assertEquals(5, steps.get());
+    }
+
+    @Test
+    void testStopDuringStepDiscardsPendingSteps() {
+        AtomicInteger steps = new AtomicInteger();
+        interact(() -> {
+            GameLoop[] loop = new GameLoop[1];
+            loop[0] = new GameLoop(20, () -> {
+                steps.incrementAndGet();
+                loop[0].stop();
+            }, alpha -> { });
+            loop[0].start();
+            loop[0].handle(0);
+            loop[0].handle(3 * STEP_NANOS);
+            assertFalse(loop[0].isRunning());
+        });
+        assertEquals(1, steps.get());
+    }
+
+    @Test
+    void testSimulationRate() {
+        interact(() -> {
+            GameLoop loop = new GameLoop(60, () -> { }, alpha -> { });
+            assertEquals(60, loop.getSimulationRate(), 0.01);
+            assertThrows(IllegalArgumentException.class, () -> loop.setSimulationRate(0));
+            assertThrows(IllegalArgumentException.class, () -> loop.setSimulationRate(Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> loop.setSimulationRate(Double.POSITIVE_INFINITY));
+        });
+    }
+
+    @Test
+    void testInvalidSimulationRatePropertyFallsBackToDefault() {
+        String property = "skybattle.testSimulationRate";
+        try {
+            for (String value : new String[] {"0", "-20", "NaN", "Infinity", "fast"}) {
+                System.setProperty(property, value);
+                assertEquals(20, GameSettings.readDouble("testSimulationRate", 20,
+                        GameSettings::isValidSimulationRate), value);
+            }
+            System.setProperty(property, "60");
+            assertEquals(60, GameSettings.readDouble("testSimulationRate", 20, GameSettings::isValidSimulationRate));
+        } finally {
+            System.clearProperty(property);
+        }
+        assertThrows(IllegalArgumentException.class, () -> GameSettings.setSimulationRate(-1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.CustomException;
+import com.example.demo.controller.GameMetrics;
+import com.example.demo.controller.GameMetricsMXBean;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest extends ApplicationTest {
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+    }
+
+    private static GameMetricsMXBean proxy() throws Exception {
+        return JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                new ObjectName(GameMetrics.OBJECT_NAME), GameMetricsMXBean.class);
+    }
+
+    @Test
+    void testControllerRegistersMetricsOfItsLevel() throws Exception {
+        interact(() -> {
+            Controller controller = new Controller(stage);
+            try {
+                controller.launchGame(stage);
+            } catch (CustomException e) {
+                fail(e);
+            }
+            controller.pauseGame();
+            controller.getCurrentLevel().renderFrame(1);
+        });
+
+        GameMetricsMXBean metrics = proxy();
+        assertEquals("LevelOne", metrics.getCurrentLevel());
+        assertTrue(metrics.isPaused());
+        assertEquals(0, metrics.getEnemyProjectileCount());
+        assertTrue(metrics.getImageCacheSize() > 0);
+        assertTrue(metrics.getPhaseTimings().contains("LevelOne"));
+        assertTrue(metrics.getStepMaxMillis() >= metrics.getStepP50Millis());
+    }
+
+    @Test
+    void testPoolAndMixerStatisticsArePublished() throws Exception {
+        interact(() -> new Controller(stage));
+        GameMetricsMXBean metrics = proxy();
+        long userAcquired = metrics.getUserProjectilePoolHits() + metrics.getUserProjectilePoolMisses();
+
+        interact(() -> {
+            UserProjectile projectile = UserProjectile.acquire(0, 0);
+            projectile.release();
+        });
+
+        assertEquals(userAcquired + 1, metrics.getUserProjectilePoolHits() + metrics.getUserProjectilePoolMisses());
+        assertEquals(UserProjectile.getPool().getHits(), metrics.getUserProjectilePoolHits());
+        assertEquals(UserProjectile.getPool().getMisses(), metrics.getUserProjectilePoolMisses());
+        assertEquals(UserProjectile.getPool().getDiscards(), metrics.getUserProjectilePoolDiscards());
+        assertEquals(EnemyProjectile.getPool().getDiscards(), metrics.getEnemyProjectilePoolDiscards());
+        assertEquals(BossProjectile.getPool().getDiscards(), metrics.getBossProjectilePoolDiscards());
+        assertEquals(AudioMixer.get().getStolenCount(), metrics.getStolenVoiceCount());
+    }
+
+    @Test
+    void testTunablesChangeGameSettings() throws Exception {
+        interact(() -> new Controller(stage));
+        GameMetricsMXBean metrics = proxy();
+        long spawnInterval = GameSettings.getSpawnIntervalMillis();
+        double enemyFireRate = GameSettings.getEnemyFireRate();
+        double bossFireRate = GameSettings.getBossFireRate();
+        try {
+            metrics.setSpawnIntervalMillis(250);
+            metrics.setEnemyFireRate(0.5);
+            metrics.setBossFireRate(0);
+
+            assertEquals(250, GameSettings.getSpawnIntervalMillis());
+            assertEquals(0.5, GameSettings.getEnemyFireRate());
+            assertEquals(0, GameSettings.getBossFireRate());
+            assertEquals(0.5, metrics.getEnemyFireRate());
+            assertEquals("", metrics.getCurrentLevel());
+            assertThrows(IllegalArgumentException.class, () -> metrics.setEnemyFireRate(2));
+        } finally {
+            GameSettings.setSpawnIntervalMillis(spawnInterval);
+            GameSettings.setEnemyFireRate(enemyFireRate);
+            GameSettings.setBossFireRate(bossFireRate);
+        }
+    }
+}
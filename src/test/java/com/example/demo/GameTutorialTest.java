@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.controller.Controller;
+import javafx.scene.Parent;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTutorialTest extends ApplicationTest {
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+    }
+
+    @Test
+    void testTutorialIsPreloadedAndReused() throws Exception {
+        GameTutorial tutorial = new GameTutorial(new Controller(stage));
+        Parent root = tutorial.preload().get(10, TimeUnit.SECONDS);
+        assertSame(root, tutorial.preload().get());
+        WaitForAsyncUtils.waitForFxEvents();
+
+        Stage[] stages = new Stage[2];
+        interact(() -> {
+            stages[0] = tutorial.getStage();
+            stages[1] = tutorial.getStage();
+        });
+        assertNotNull(stages[0]);
+        assertSame(stages[0], stages[1]);
+        assertSame(root, stages[0].getScene().getRoot());
+        assertFalse(stages[0].isShowing());
+        assertEquals(0, tutorial.getOpenCount());
+    }
+
+    @Test
+    void testTutorialDoesNotQueueBehindAssetPreload() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AssetPreloader.getExecutor().execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            GameTutorial tutorial = new GameTutorial(new Controller(stage));
+            assertNotNull(tutorial.preload().get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testControllerSharesOneTutorial() {
+        interact(() -> {
+            Controller controller = new Controller(stage);
+            assertSame(controller.getTutorial(), controller.getTutorial());
+            assertEquals(-1, controller.getTutorial().getLastOpenNanos());
+        });
+    }
+}
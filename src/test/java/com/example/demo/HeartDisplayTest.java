@@ -1,5 +1,10 @@
 package com.example.demo;
 
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,21 +25,49 @@ class HeartDisplayTest {
 
     @Test
     void testInitialHearts() {
-        HBox container = heartDisplay.getContainer();
-        assertEquals(3, container.getChildren().size(), "Initial number of hearts should be 3");
+        assertEquals(3, heartDisplay.getVisibleHeartCount(), "Initial number of hearts should be 3");
+        assertEquals(3, visibleChildren(heartDisplay.getContainer()));
     }
 
     @Test
     void testRemoveHeart() {
         heartDisplay.removeHeart();
-        HBox container = heartDisplay.getContainer();
-        assertEquals(2, container.getChildren().size(), "Number of hearts should be 2 after removing one heart");
+        assertEquals(2, heartDisplay.getVisibleHeartCount(), "Number of hearts should be 2 after removing one heart");
+        assertEquals(2, visibleChildren(heartDisplay.getContainer()));
     }
 
     @Test
     void testUpdateHearts() {
         heartDisplay.update(1);
-        HBox container = heartDisplay.getContainer();
-        assertEquals(1, container.getChildren().size(), "Number of hearts should be 1 after update");
+        assertEquals(1, heartDisplay.getVisibleHeartCount(), "Number of hearts should be 1 after update");
+        assertEquals(1, visibleChildren(heartDisplay.getContainer()));
+    }
+
+    @Test
+    void testUpdateReusesHeartNodes() {
+        List<Node> hearts = List.copyOf(heartDisplay.getContainer().getChildren());
+        heartDisplay.update(0);
+        heartDisplay.update(3);
+        heartDisplay.update(3);
+        assertEquals(hearts, heartDisplay.getContainer().getChildren());
+        assertEquals(3, visibleChildren(heartDisplay.getContainer()));
+        Image image = ((ImageView) hearts.get(0)).getImage();
+        for (Node heart : hearts) {
+            assertSame(image, ((ImageView) heart).getImage());
+        }
+    }
+
+    @Test
+    void testUpdateBeyondInitialHearts() {
+        heartDisplay.update(5);
+        assertEquals(5, heartDisplay.getContainer().getChildren().size());
+        assertEquals(5, visibleChildren(heartDisplay.getContainer()));
+        heartDisplay.update(-1);
+        assertEquals(0, heartDisplay.getVisibleHeartCount());
+        assertEquals(0, visibleChildren(heartDisplay.getContainer()));
+    }
+
+    private static long visibleChildren(HBox container) {
+        return container.getChildren().stream().filter(node -> node.isVisible() && node.isManaged()).count();
     }
 }
\ No newline at end of file
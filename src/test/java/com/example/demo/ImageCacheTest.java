@@ -0,0 +1,106 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.scene.image.Image;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest extends ApplicationTest {
+
+    private static final String HEART = "/com/example/demo/images/heart.png";
+    private static final String SHIELD = "/com/example/demo/images/shield.png";
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        ImageCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ImageCache.setBudgetBytes(GameConstants.IMAGE_CACHE_BUDGET_BYTES);
+        ImageCache.clear();
+    }
+
+    @Test
+    void testSamePathSharesImage() {
+        Image first = ImageCache.get(HEART);
+        Image second = ImageCache.get(HEART);
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, ImageCache.getDecodeCount());
+        assertEquals(1, ImageCache.getHitCount());
+        assertEquals((long) first.getWidth() * (long) first.getHeight() * 4, ImageCache.getUsedBytes());
+    }
+
+    @Test
+    void testRequestedSizeIsPartOfKey() {
+        Image natural = ImageCache.get(HEART);
+        Image small = ImageCache.get(HEART, 0, 10);
+        assertNotSame(natural, small);
+        assertEquals(10, small.getHeight(), 0.5);
+        assertEquals(2, ImageCache.size());
+    }
+
+    @Test
+    void testMissingResource() {
+        assertNull(ImageCache.get("/com/example/demo/images/missing.png"));
+        assertEquals(0, ImageCache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedImageIsEvicted() {
+        Image heart = ImageCache.get(HEART, 0, 10);
+        Image shield = ImageCache.get(SHIELD, 0, 10);
+        ImageCache.get(HEART, 0, 10);
+        ImageCache.setBudgetBytes(ImageCache.getUsedBytes() - 1);
+        assertEquals(1, ImageCache.getEvictionCount());
+        assertSame(heart, ImageCache.get(HEART, 0, 10));
+        assertNotSame(shield, ImageCache.get(SHIELD, 0, 10));
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneDecode() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Image>> requests = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                requests.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ImageCache.get(SHIELD, 0, 12);
+                }, executor));
+            }
+            start.countDown();
+            Image first = requests.get(0).get();
+            assertNotNull(first);
+            for (CompletableFuture<Image> request : requests) {
+                assertSame(first, request.get());
+            }
+            assertEquals(1, ImageCache.getDecodeCount());
+            assertEquals(threads - 1, ImageCache.getHitCount());
+            assertEquals(1, ImageCache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
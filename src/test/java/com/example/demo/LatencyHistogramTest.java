@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getP50());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    @Test
+    void testBucketsAreContiguousAndCoverTheirValues() {
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "value " + value);
+            if (bucket > 0) {
+                assertTrue(value > LatencyHistogram.upperBoundOf(bucket - 1), "value " + value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-6);
+        assertEquals(500_000, histogram.getP50(), 500_000 * 0.07);
+        assertEquals(990_000, histogram.getP99(), 990_000 * 0.07);
+        assertTrue(histogram.getP99() <= histogram.getMax());
+        assertEquals(histogram.getMax(), histogram.getPercentile(100));
+    }
+
+    @Test
+    void testOutlierDrivesMaxButNotMedian() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(2_000_000);
+        }
+        histogram.record(80_000_000);
+
+        assertEquals(2_000_000, histogram.getP50(), 2_000_000 * 0.07);
+        assertEquals(2_000_000, histogram.getP99(), 2_000_000 * 0.07);
+        assertEquals(80_000_000, histogram.getMax());
+    }
+
+    @Test
+    void testHugeAndNegativeDurationsAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE / 2);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE / 2, histogram.getMax());
+    }
+
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getP99());
+    }
+
+    @Test
+    void testPercentileOutOfRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNothing() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int recordsPerThread = 100_000;
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread writer = new Thread(() -> {
+                for (int i = 1; i <= recordsPerThread; i++) {
+                    histogram.record(i);
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals((long) threads * recordsPerThread, histogram.getCount());
+        assertEquals((long) threads * recordsPerThread * (recordsPerThread + 1) / 2, histogram.getTotalNanos());
+        assertEquals(recordsPerThread, histogram.getMax());
+        assertEquals(recordsPerThread, histogram.getPercentile(100));
+    }
+}
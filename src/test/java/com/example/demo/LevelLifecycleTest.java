@@ -0,0 +1,194 @@
+package com.example.demo;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.CustomException;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelLifecycleTest extends ApplicationTest {
+
+    private static final int TRANSITIONS = 20;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    private Stage stage;
+    private Controller controller;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+    }
+
+    // Each new level is paused within the transition that started it, so no frame of it runs
+    // between transitions and no sound is played on machines without an audio device.
+    @Test
+    void testDisposedLevelsStopTickingAndAreReleased() throws Exception {
+        interact(() -> {
+            controller = new Controller(stage);
+            try {
+                controller.launchGame(stage);
+            } catch (CustomException e) {
+                fail(e);
+            }
+            controller.pauseGame();
+        });
+
+        List<LevelParent> disposedLevels = new ArrayList<>();
+        List<WeakReference<LevelParent>> releasedLevels = new ArrayList<>();
+        long heapAfterWarmUp = 0;
+        for (int i = 0; i < TRANSITIONS; i++) {
+            String nextLevel = i % 2 == 0 ? GameConstants.LEVEL_TWO : GameConstants.LEVEL_ONE;
+            interact(() -> {
+                LevelParent level = controller.getCurrentLevel();
+                controller.resumeGame();
+                assertTrue(level.getGameLoop().isRunning());
+                level.goToNextLevel(nextLevel);
+                assertTrue(level.isDisposed());
+                assertFalse(level.getGameLoop().isRunning());
+                assertNotSame(level, controller.getCurrentLevel());
+                controller.pauseGame();
+                if (disposedLevels.size() < 2) {
+                    disposedLevels.add(level);
+                } else {
+                    releasedLevels.add(new WeakReference<>(level));
+                }
+            });
+            if (i == TRANSITIONS / 3) {
+                heapAfterWarmUp = usedHeapAfterGc();
+            }
+        }
+
+        long[] simulationTimes = disposedLevels.stream().mapToLong(LevelParent::getSimulationTime).toArray();
+        WaitForAsyncUtils.sleep(300, TimeUnit.MILLISECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+        for (int i = 0; i < disposedLevels.size(); i++) {
+            assertEquals(simulationTimes[i], disposedLevels.get(i).getSimulationTime());
+            assertTrue(disposedLevels.get(i).getRoot().getChildren().isEmpty());
+        }
+
+        long heapAtEnd = usedHeapAfterGc();
+        assertTrue(heapAtEnd - heapAfterWarmUp < MAX_HEAP_GROWTH_BYTES,
+                "Heap grew by " + (heapAtEnd - heapAfterWarmUp) + " bytes");
+        long retained = releasedLevels.stream().filter(reference -> reference.get() != null).count();
+        assertEquals(0, retained);
+
+        interact(() -> controller.getCurrentLevel().dispose());
+    }
+
+    @Test
+    void testNextLevelIsPreparedBeforeTransition() {
+        interact(() -> {
+            controller = new Controller(stage);
+            try {
+                controller.launchGame(stage);
+            } catch (CustomException e) {
+                fail(e);
+            }
+            controller.pauseGame();
+            LevelParent level = controller.getCurrentLevel();
+            for (int i = 0; i < GameConstants.KILLS_BEFORE_PREPARING_LEVEL_TWO; i++) {
+                level.getUser().incrementKillCount();
+            }
+            level.checkIfGameOver();
+            assertNull(controller.getPreparedLevel());
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+
+        LevelParent prepared = controller.getPreparedLevel();
+        assertInstanceOf(LevelTwo.class, prepared);
+        assertFalse(prepared.isDisposed());
+        assertFalse(prepared.getGameLoop().isRunning());
+
+        interact(() -> {
+            controller.getCurrentLevel().goToNextLevel(GameConstants.LEVEL_TWO);
+            controller.pauseGame();
+            assertSame(prepared, controller.getCurrentLevel());
+            assertNull(controller.getPreparedLevel());
+        });
+
+        interact(() -> {
+            LevelParent level = controller.getCurrentLevel();
+            level.announceLevelNearingEnd(GameConstants.LEVEL_THREE);
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        LevelParent discarded = controller.getPreparedLevel();
+        assertInstanceOf(LevelThree.class, discarded);
+
+        interact(() -> {
+            controller.getCurrentLevel().goToNextLevel(GameConstants.LEVEL_ONE);
+            controller.pauseGame();
+            assertTrue(discarded.isDisposed());
+            assertInstanceOf(LevelOne.class, controller.getCurrentLevel());
+            controller.getCurrentLevel().dispose();
+        });
+    }
+
+    @Test
+    void testDiscardedLevelLeavesSharedSoundsPlaying() {
+        boolean soundEnabled = GameSettings.isSoundEnabled();
+        GameSettings.setSoundEnabled(false);
+        try {
+            interact(() -> {
+                Controller owner = new Controller(stage);
+                AudioMixer mixer = AudioMixer.get();
+                LevelParent discarded = new LevelThree(750, 1300, new HeartDisplay(0, 0, 1), owner);
+                mixer.beginTick();
+                assertTrue(mixer.play(SoundCue.YOU_WIN));
+                int voices = mixer.getActiveVoiceCount();
+
+                discarded.discard();
+                assertTrue(discarded.isDisposed());
+                assertFalse(discarded.getGameLoop().isRunning());
+                assertTrue(discarded.getRoot().getChildren().isEmpty());
+                assertEquals(voices, mixer.getActiveVoiceCount());
+
+                LevelParent disposed = new LevelThree(750, 1300, new HeartDisplay(0, 0, 1), owner);
+                disposed.dispose();
+                assertEquals(voices - 1, mixer.getActiveVoiceCount());
+            });
+        } finally {
+            GameSettings.setSoundEnabled(soundEnabled);
+        }
+    }
+
+    @Test
+    void testFirstEnemySpawnsAtStartWhateverTheInterval() {
+        boolean soundEnabled = GameSettings.isSoundEnabled();
+        long spawnInterval = GameSettings.getSpawnIntervalMillis();
+        GameSettings.setSoundEnabled(false);
+        GameSettings.setSpawnIntervalMillis(5 * GameConstants.SPAWN_INTERVAL_MS);
+        try {
+            interact(() -> {
+                LevelParent level = new LevelOne(750, 1300, new HeartDisplay(0, 0, 1), new Controller(stage));
+                level.initializeScene();
+                level.simulate(1);
+                assertEquals(1, level.getEnemyCount());
+                level.simulate(10);
+                assertEquals(1, level.getEnemyCount());
+                level.dispose();
+            });
+        } finally {
+            GameSettings.setSpawnIntervalMillis(spawnInterval);
+            GameSettings.setSoundEnabled(soundEnabled);
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelSchedulerTest {
+
+    private LevelScheduler scheduler;
+    private List<String> log;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new LevelScheduler(8);
+        log = new ArrayList<>();
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick();
+        }
+    }
+
+    @Test
+    void testDelayedTaskRunsOnce() {
+        scheduler.schedule(() -> log.add("a"), 3);
+        tick(2);
+        assertTrue(log.isEmpty());
+        tick(1);
+        assertEquals(List.of("a"), log);
+        tick(20);
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    void testDelayLongerThanWheel() {
+        scheduler.schedule(() -> log.add("late"), 19);
+        tick(18);
+        assertTrue(log.isEmpty());
+        tick(1);
+        assertEquals(List.of("late"), log);
+    }
+
+    @Test
+    void testPeriodicTask() {
+        scheduler.scheduleAtFixedRate(() -> log.add("p"), 1, 8);
+        tick(17);
+        assertEquals(3, log.size());
+    }
+
+    @Test
+    void testTasksDueOnSameTickRunInScheduleOrder() {
+        scheduler.scheduleAtFixedRate(() -> log.add("spawn"), 2, 2);
+        scheduler.scheduleAtFixedRate(() -> log.add("move"), 1, 1);
+        tick(2);
+        assertEquals(List.of("move", "spawn", "move"), log);
+    }
+
+    @Test
+    void testCancel() {
+        LevelScheduler.ScheduledTask task = scheduler.scheduleAtFixedRate(() -> log.add("p"), 1, 1);
+        tick(2);
+        task.cancel();
+        tick(5);
+        assertEquals(2, log.size());
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    void testClear() {
+        scheduler.schedule(() -> log.add("a"), 1);
+        scheduler.scheduleAtFixedRate(() -> log.add("b"), 1, 1);
+        scheduler.clear();
+        tick(3);
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelScheduler(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleAtFixedRate(() -> { }, 1, 0));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo;
+
+import com.example.demo.controller.Controller;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Levels are built from JavaFX nodes, so the soak runs on the FX thread of the test toolkit
+// rather than headless; sound is turned off since tests run without an audio device.
+class LevelSoakTest extends ApplicationTest {
+
+    private static final int STEPS = 10_000;
+    private static final int STEPS_PER_FRAME = 100;
+    private static final int MAX_ROOT_CHILDREN = 200;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double MAX_SPRITE_WIDTH = 200;
+    private static final int IN_FLIGHT_SAFETY_FACTOR = 4;
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * A first level that never ends, so that enemies keep spawning, firing, colliding and
+     * leaving for the whole run.
+     */
+    private static class EndlessLevelOne extends LevelOne {
+
+        EndlessLevelOne(Controller controller) {
+            super(750, SCREEN_WIDTH, new HeartDisplay(GameConstants.HEART_DISPLAY_X_POSITION,
+                    GameConstants.HEART_DISPLAY_Y_POSITION, GameConstants.PLAYER_INITIAL_HEALTH), controller);
+        }
+
+        @Override
+        protected void checkIfGameOver() {
+        }
+    }
+
+    @Test
+    void testLevelSurvivesThousandsOfSimulatedSteps() {
+        boolean soundEnabled = GameSettings.isSoundEnabled();
+        double enemyFireRate = GameSettings.getEnemyFireRate();
+        GameSettings.setSoundEnabled(false);
+        try {
+            interact(() -> {
+                EndlessLevelOne level = new EndlessLevelOne(new Controller(stage));
+                level.initializeScene();
+                long firedBefore = EnemyProjectile.getPool().getHits() + EnemyProjectile.getPool().getMisses();
+                long stepsBefore = level.getTimings().getHistogram(PhaseTimings.Phase.STEP).getCount();
+                int maxEnemyProjectiles = 0;
+
+                // An enemy projectile lives at most as many steps as it takes to cross the
+                // screen and the cull margin, so on average no more than every enemy's fire
+                // rate times that many are in flight; a leak would grow far past a few times it.
+                double stepScale = 1000 / GameSettings.getSimulationRate() / GameConstants.MILLISECOND_DELAY;
+                int crossingSteps = (int) Math.ceil((SCREEN_WIDTH + GameSettings.getCullMargin() + MAX_SPRITE_WIDTH)
+                        / (-EnemyProjectile.HORIZONTAL_VELOCITY * stepScale));
+                double fireRatePerStep = 1 - Math.pow(1 - enemyFireRate, stepScale);
+                double maxInFlight = IN_FLIGHT_SAFETY_FACTOR * GameConstants.TOTAL_ENEMIES * fireRatePerStep * crossingSteps;
+
+                for (int step = 0; step < STEPS; step += STEPS_PER_FRAME) {
+                    level.simulate(STEPS_PER_FRAME);
+                    level.renderFrame(1);
+                    assertFalse(level.isDisposed());
+                    assertTrue(level.getEnemyCount() <= GameConstants.TOTAL_ENEMIES);
+                    assertTrue(level.getRoot().getChildren().size() < MAX_ROOT_CHILDREN,
+                            "Root holds " + level.getRoot().getChildren().size() + " nodes after " + step + " steps");
+                    maxEnemyProjectiles = Math.max(maxEnemyProjectiles, level.getEnemyProjectileCount());
+                }
+
+                long fired = EnemyProjectile.getPool().getHits() + EnemyProjectile.getPool().getMisses() - firedBefore;
+                assertTrue(fired > 0);
+                assertTrue(maxEnemyProjectiles <= maxInFlight,
+                        maxEnemyProjectiles + " enemy projectiles in flight, expected at most " + maxInFlight);
+                assertEquals(STEPS, level.getTimings().getHistogram(PhaseTimings.Phase.STEP).getCount() - stepsBefore);
+                assertEquals((long) STEPS * Math.round(1000 / GameSettings.getSimulationRate()), level.getSimulationTime());
+
+                GameSettings.setEnemyFireRate(0);
+                level.simulate(crossingSteps);
+                assertEquals(0, level.getEnemyProjectileCount(), "Enemy projectiles outlived their crossing");
+                level.dispose();
+            });
+        } finally {
+            GameSettings.setEnemyFireRate(enemyFireRate);
+            GameSettings.setSoundEnabled(soundEnabled);
+        }
+    }
+}
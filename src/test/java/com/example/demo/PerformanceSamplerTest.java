@@ -0,0 +1,100 @@
+package com.example.demo;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceSamplerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcMillis = new AtomicLong();
+    private final LatencyHistogram step = new LatencyHistogram();
+    private final PerformanceSampler sampler =
+            new PerformanceSampler(allocated::get, gcCount::get, gcMillis::get);
+
+    @Test
+    void testLinesAreEmptyBeforeTheFirstWindow() {
+        assertFalse(sampler.sample(0, step, 0, 0, 0));
+        assertFalse(sampler.sample(100 * MILLI, step, 0, 0, 0));
+        for (int i = 0; i < PerformanceSampler.LINE_COUNT; i++) {
+            assertEquals("", sampler.getLine(i));
+        }
+    }
+
+    @Test
+    void testWindowSummarizesFramesTicksAndPulses() {
+        sampler.sample(0, step, 0, 0, 0);
+        for (int i = 0; i < 15; i++) {
+            sampler.recordFrame();
+            sampler.recordPulse(4 * MILLI);
+        }
+        sampler.recordPulse(10 * MILLI);
+        step.record(2 * MILLI);
+        step.record(4 * MILLI);
+        allocated.set(5L * 1024 * 1024);
+        gcCount.set(2);
+        gcMillis.set(7);
+
+        assertTrue(sampler.sample(250 * MILLI, step, 3, 12, 4));
+
+        assertEquals("FPS 60.0", sampler.getLine(0));
+        assertTrue(sampler.getLine(1).startsWith("Tick 3.00 ms avg"), sampler.getLine(1));
+        assertEquals("Pulse 4.38 ms avg, 10.00 ms max", sampler.getLine(2));
+        assertEquals("Enemies 3, shots 12, enemy shots 4", sampler.getLine(3));
+        assertEquals("Alloc 20.0 MB/s", sampler.getLine(4));
+        assertEquals("GC 2 in window (7 ms), 2 total", sampler.getLine(5));
+    }
+
+    @Test
+    void testEachWindowOnlyCountsItsOwnActivity() {
+        sampler.sample(0, step, 0, 0, 0);
+        for (int i = 0; i < 15; i++) {
+            sampler.recordFrame();
+        }
+        step.record(8 * MILLI);
+        gcCount.set(1);
+        sampler.sample(250 * MILLI, step, 0, 0, 0);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.recordFrame();
+        }
+        step.record(2 * MILLI);
+        assertFalse(sampler.sample(400 * MILLI, step, 0, 0, 0), "The window is still open");
+        assertTrue(sampler.sample(500 * MILLI, step, 0, 0, 0));
+
+        assertEquals("FPS 20.0", sampler.getLine(0));
+        assertTrue(sampler.getLine(1).startsWith("Tick 2.00 ms avg"), sampler.getLine(1));
+        assertEquals("Pulse 0.00 ms avg, 0.00 ms max", sampler.getLine(2));
+        assertEquals("GC 0 in window (0 ms), 1 total", sampler.getLine(5));
+    }
+
+    @Test
+    void testUnknownAllocationIsReported() {
+        PerformanceSampler unsupported = new PerformanceSampler(() -> -1, () -> 0, () -> 0);
+        unsupported.sample(0, step, 0, 0, 0);
+        unsupported.sample(300 * MILLI, step, 0, 0, 0);
+        assertEquals("Alloc n/a", unsupported.getLine(4));
+    }
+
+    @Test
+    void testPlatformSamplerReadsThisVirtualMachine() {
+        PerformanceSampler platform = PerformanceSampler.forPlatform();
+        platform.sample(0, step, 0, 0, 0);
+        byte[][] garbage = new byte[64][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[16 * 1024];
+        }
+        assertTrue(platform.sample(secondsToNanos(1), step, 0, 0, garbage.length));
+        assertTrue(platform.getLine(4).matches("Alloc (n/a|\\d+\\.\\d MB/s)"), platform.getLine(4));
+        assertTrue(platform.getLine(5).startsWith("GC "));
+    }
+
+    private static long secondsToNanos(long seconds) {
+        return seconds * 1_000_000_000L;
+    }
+}
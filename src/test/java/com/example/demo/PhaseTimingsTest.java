@@ -0,0 +1,46 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseTimingsTest {
+
+    @Test
+    void testTimingsAreSharedPerLevelClass() {
+        PhaseTimings timings = PhaseTimings.forLevel(LevelTwo.class);
+
+        assertSame(timings, PhaseTimings.forLevel(LevelTwo.class));
+        assertNotSame(timings, PhaseTimings.forLevel(LevelThree.class));
+        assertEquals("LevelTwo", timings.getLevelName());
+        assertSame(timings, PhaseTimings.getAll().get("LevelTwo"));
+    }
+
+    @Test
+    void testRecordTimesConsecutivePhases() {
+        PhaseTimings timings = new PhaseTimings("Test");
+        long start = System.nanoTime();
+        long next = timings.record(PhaseTimings.Phase.SPAWN, start);
+        timings.record(PhaseTimings.Phase.UPDATE, next);
+
+        assertTrue(next >= start);
+        assertEquals(1, timings.getHistogram(PhaseTimings.Phase.SPAWN).getCount());
+        assertEquals(1, timings.getHistogram(PhaseTimings.Phase.UPDATE).getCount());
+        assertEquals(0, timings.getHistogram(PhaseTimings.Phase.COLLISIONS).getCount());
+    }
+
+    @Test
+    void testSummaryListsEveryPhase() {
+        PhaseTimings timings = new PhaseTimings("Test");
+        timings.getHistogram(PhaseTimings.Phase.COLLISIONS).record(3_000_000);
+
+        String summary = timings.summary();
+        for (PhaseTimings.Phase phase : PhaseTimings.Phase.values()) {
+            assertTrue(summary.contains(phase.name()), phase.name());
+        }
+        assertTrue(summary.contains("max=3.000ms"));
+
+        timings.reset();
+        assertEquals(0, timings.getHistogram(PhaseTimings.Phase.COLLISIONS).getCount());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest extends ApplicationTest {
+
+    private ProjectilePool<EnemyProjectile> pool;
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool<>(2, () -> new EnemyProjectile(0, 0));
+    }
+
+    @Test
+    void testReleasedProjectileIsReused() {
+        EnemyProjectile first = pool.acquire();
+        first.destroy();
+        first.release();
+        EnemyProjectile second = pool.acquire();
+        assertSame(first, second);
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void testResetRevivesAndMovesProjectile() {
+        EnemyProjectile projectile = pool.acquire();
+        projectile.destroy();
+        projectile.reset(200, 120);
+        assertFalse(projectile.isDestroyed());
+        assertEquals(200, projectile.getModel().getX());
+        assertEquals(0, projectile.getModel().getDisplacementY());
+    }
+
+    @Test
+    void testDoubleReleaseIsIgnored() {
+        EnemyProjectile projectile = pool.acquire();
+        projectile.release();
+        projectile.release();
+        assertEquals(1, pool.getAvailableCount());
+        pool.acquire();
+        assertNotSame(projectile, pool.acquire());
+    }
+
+    @Test
+    void testCapacityIsBounded() {
+        EnemyProjectile[] projectiles = new EnemyProjectile[3];
+        for (int i = 0; i < projectiles.length; i++) {
+            projectiles[i] = pool.acquire();
+        }
+        for (EnemyProjectile projectile : projectiles) {
+            pool.release(projectile);
+        }
+        assertEquals(2, pool.getAvailableCount());
+        assertEquals(1, pool.getDiscards());
+    }
+
+    @Test
+    void testForeignProjectileIsIgnored() {
+        pool.release(new EnemyProjectile(0, 0));
+        assertEquals(0, pool.getAvailableCount());
+    }
+
+    @Test
+    void testTypePoolPlacesProjectile() {
+        UserProjectile projectile = UserProjectile.acquire(10, 20);
+        assertEquals(40, projectile.getModel().getX());
+        assertEquals(80, projectile.getModel().getY());
+        projectile.release();
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.demo;
 
 import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javafx.scene.media.AudioClip;
 import static org.junit.jupiter.api.Assertions.*;
 
 class SoundEffectsTest {
@@ -23,4 +30,58 @@ class SoundEffectsTest {
             assertTrue(soundFile.length() > 0, "Each sound file should not be empty");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testClipIsLoadedOnceAndShared() {
+        String path = "/com/example/demo/sounds/enemyfire.wav";
+        var first = SoundEffects.loadSound(path, getClass());
+        long hits = SoundEffects.getHitCount();
+        var second = SoundEffects.loadSound(path, getClass());
+        assertNotNull(first);
+        assertSame(first, second);
+        assertTrue(SoundEffects.isLoaded(path));
+        assertEquals(hits + 1, SoundEffects.getHitCount());
+        assertTrue(SoundEffects.getLoadNanos(path) >= 0);
+    }
+
+    @Test
+    void testMissingSound() {
+        assertNull(SoundEffects.loadSound("/com/example/demo/sounds/missing.wav", getClass()));
+        assertEquals(-1, SoundEffects.getLoadNanos("/com/example/demo/sounds/missing.wav"));
+    }
+
+    @Test
+    void testMissingSoundIsReportedOnce() {
+        String path = "/com/example/demo/sounds/missing-once.wav";
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        GameLog.flush(1000);
+        GameLog.setOutput(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            long hits = SoundEffects.getHitCount();
+            for (int i = 0; i < 3; i++) {
+                assertNull(SoundEffects.loadSound(path, getClass()));
+            }
+            assertTrue(GameLog.flush(1000));
+            assertEquals(1, captured.toString(StandardCharsets.UTF_8).lines().filter(line -> line.contains(path)).count());
+            assertEquals(hits, SoundEffects.getHitCount());
+            assertFalse(SoundEffects.isLoaded(path));
+        } finally {
+            GameLog.setOutput(System.out);
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneClip() throws Exception {
+        String path = "/com/example/demo/sounds/userhit.wav";
+        List<CompletableFuture<AudioClip>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(CompletableFuture.supplyAsync(() -> SoundEffects.loadSound(path, getClass())));
+        }
+        AudioClip first = requests.get(0).get();
+        assertNotNull(first);
+        for (CompletableFuture<AudioClip> request : requests) {
+            assertSame(first, request.get());
+        }
+        assertTrue(SoundEffects.isLoaded(path));
+    }
+}
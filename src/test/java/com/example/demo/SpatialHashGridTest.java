@@ -0,0 +1,67 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(100);
+    }
+
+    @Test
+    void testQueryFindsActorInSameCell() {
+        grid.insert(0, 10, 10, 40, 40);
+        assertEquals(1, grid.query(20, 20, 30, 30));
+        assertEquals(0, grid.getResult(0));
+    }
+
+    @Test
+    void testQuerySkipsDistantActors() {
+        grid.insert(0, 10, 10, 40, 40);
+        grid.insert(1, 900, 500, 950, 550);
+        assertEquals(1, grid.query(0, 0, 50, 50));
+        assertEquals(0, grid.getResult(0));
+    }
+
+    @Test
+    void testActorSpanningCellsIsReportedOnce() {
+        grid.insert(3, 50, 50, 350, 250);
+        assertEquals(1, grid.query(0, 0, 400, 300));
+        assertEquals(3, grid.getResult(0));
+    }
+
+    @Test
+    void testResultsAreSortedById() {
+        grid.insert(5, 10, 10, 20, 20);
+        grid.insert(1, 110, 10, 120, 20);
+        grid.insert(2, 10, 110, 20, 120);
+        assertEquals(3, grid.query(0, 0, 150, 150));
+        assertEquals(1, grid.getResult(0));
+        assertEquals(2, grid.getResult(1));
+        assertEquals(5, grid.getResult(2));
+    }
+
+    @Test
+    void testNegativeCoordinates() {
+        grid.insert(0, -250, -30, -200, 10);
+        assertEquals(1, grid.query(-220, -10, -210, 0));
+    }
+
+    @Test
+    void testClearRemovesActors() {
+        grid.insert(0, 10, 10, 40, 40);
+        grid.clear();
+        assertEquals(0, grid.query(0, 0, 100, 100));
+    }
+
+    @Test
+    void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0));
+    }
+}
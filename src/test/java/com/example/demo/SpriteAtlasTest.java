@@ -0,0 +1,87 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteAtlasTest extends ApplicationTest {
+
+    private static final String ENEMY = AssetManifest.IMAGE_LOCATION + EnemyPlane.IMAGE_NAME;
+
+    @TempDir
+    Path outputDirectory;
+
+    private SpriteAtlas atlas;
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        AtlasPacker.pack(AssetManifest.getAtlasSprites(), outputDirectory);
+        Image image = new Image(outputDirectory.resolve(AtlasPacker.ATLAS_IMAGE).toUri().toString());
+        try (InputStream index = Files.newInputStream(outputDirectory.resolve(AtlasPacker.ATLAS_INDEX))) {
+            atlas = new SpriteAtlas(image, SpriteAtlas.readIndex(index));
+        }
+    }
+
+    @Test
+    void testSpriteIsShownThroughViewport() {
+        ImageView view = new ImageView();
+        assertTrue(atlas.show(view, ENEMY, 0, EnemyPlane.IMAGE_HEIGHT));
+        assertSame(atlas.getImage(), view.getImage());
+        Rectangle2D region = atlas.getRegion(ENEMY, 0, EnemyPlane.IMAGE_HEIGHT);
+        assertEquals(region, view.getViewport());
+        assertEquals(EnemyPlane.IMAGE_HEIGHT, region.getHeight());
+        assertEquals(AssetManifest.getAtlasSprites().size(), atlas.size());
+    }
+
+    @Test
+    void testSpritesShareTheAtlasImage() {
+        ImageView heart = new ImageView();
+        ImageView bomb = new ImageView();
+        atlas.show(heart, HeartDisplay.HEART_IMAGE_NAME, 0, HeartDisplay.HEART_HEIGHT);
+        atlas.show(bomb, Bomb.IMAGE_NAME, 0, Bomb.BOMB_SIZE);
+        assertSame(heart.getImage(), bomb.getImage());
+        assertNotEquals(heart.getViewport(), bomb.getViewport());
+    }
+
+    @Test
+    void testUnpackedSizeFallsBackToSeparateImage() {
+        ImageView view = new ImageView();
+        assertTrue(atlas.show(view, ENEMY, 0, 42));
+        assertNotSame(atlas.getImage(), view.getImage());
+        assertNull(view.getViewport());
+        assertEquals(42, view.getImage().getHeight());
+    }
+
+    @Test
+    void testMaskFromRegionMatchesSeparateImage() {
+        Rectangle2D region = atlas.getRegion(ENEMY, 0, EnemyPlane.IMAGE_HEIGHT);
+        CollisionMask fromAtlas = CollisionMask.forRegion("atlas-test-enemy", atlas.getImage(), region, EnemyPlane.IMAGE_HEIGHT);
+        assertNotNull(fromAtlas);
+        assertTrue(fromAtlas.isOpaque((int) region.getWidth() / 2, EnemyPlane.IMAGE_HEIGHT / 2));
+        assertFalse(fromAtlas.isOpaque((int) region.getWidth() + 1, 0));
+    }
+
+    @Test
+    void testGameBuildWithoutAtlasUsesSeparateSprites() {
+        assertFalse(SpriteAtlas.get().isAvailable());
+        ImageView view = new ImageView();
+        assertTrue(SpriteAtlas.get().show(view, ENEMY, 0, EnemyPlane.IMAGE_HEIGHT));
+        assertSame(ImageCache.get(ENEMY, 0, EnemyPlane.IMAGE_HEIGHT), view.getImage());
+    }
+}
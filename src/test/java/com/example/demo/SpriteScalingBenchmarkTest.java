@@ -0,0 +1,113 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares frame times with 240 sprites drawn from full-resolution images scaled by each node
+ * against sprites decoded at their display size. Run with {@code -Dskybattle.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "skybattle.benchmark", matches = "true")
+class SpriteScalingBenchmarkTest extends ApplicationTest {
+
+    private static final String[] SPRITES = {"userplane.png", "enemyplane.png", "bossplane.png",
+            "userfire.png", "enemyFire.png", "fireball.png"};
+    private static final int[] HEIGHTS = {100, 100, 170, 30, 60, 30};
+    private static final int SPRITE_COUNT = 240;
+    private static final int WARM_UP_FRAMES = 30;
+    private static final int MEASURED_FRAMES = 240;
+
+    private Stage stage;
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+        stage.show();
+    }
+
+    @Test
+    void testPrescaledSpritesVersusFitScaling() throws Exception {
+        double[] fitScaled = measure(index -> new Image(getClass().getResource(
+                AssetManifest.IMAGE_LOCATION + SPRITES[index]).toExternalForm()));
+        double[] prescaled = measure(index -> ImageCache.get(
+                AssetManifest.IMAGE_LOCATION + SPRITES[index], 0, HEIGHTS[index]));
+
+        System.out.printf("Fit-scaled sprites: mean %.2f ms, p95 %.2f ms%n", mean(fitScaled), percentile(fitScaled, 95));
+        System.out.printf("Pre-scaled sprites: mean %.2f ms, p95 %.2f ms%n", mean(prescaled), percentile(prescaled, 95));
+        assertEquals(MEASURED_FRAMES, fitScaled.length);
+        assertEquals(MEASURED_FRAMES, prescaled.length);
+    }
+
+    private double[] measure(Function<Integer, Image> images) throws Exception {
+        List<ImageView> sprites = new ArrayList<>();
+        interact(() -> {
+            Image[] loaded = new Image[SPRITES.length];
+            for (int i = 0; i < SPRITES.length; i++) {
+                loaded[i] = images.apply(i);
+            }
+            for (int i = 0; i < SPRITE_COUNT; i++) {
+                int index = i % SPRITES.length;
+                ImageView sprite = new ImageView(loaded[index]);
+                sprite.setFitHeight(HEIGHTS[index]);
+                sprite.setPreserveRatio(true);
+                sprites.add(sprite);
+            }
+            stage.setScene(new Scene(new Group(sprites.toArray(new ImageView[0])), 1300, 750));
+        });
+
+        double[] frameMillis = new double[MEASURED_FRAMES];
+        CountDownLatch done = new CountDownLatch(1);
+        AnimationTimer timer = new AnimationTimer() {
+            private long previous;
+            private int frame;
+
+            @Override
+            public void handle(long now) {
+                for (int i = 0; i < sprites.size(); i++) {
+                    sprites.get(i).setLayoutX((i * 37 + frame * 5) % 1200);
+                    sprites.get(i).setLayoutY((i * 53 + frame * 3) % 650);
+                }
+                int measured = frame - WARM_UP_FRAMES;
+                if (measured >= 0 && measured < MEASURED_FRAMES) {
+                    frameMillis[measured] = (now - previous) / 1_000_000.0;
+                } else if (measured >= MEASURED_FRAMES) {
+                    stop();
+                    done.countDown();
+                }
+                previous = now;
+                frame++;
+            }
+        };
+        interact(timer::start);
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        return frameMillis;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    private static double percentile(double[] values, int percentile) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}